@@ -0,0 +1,45 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs SchemaCrawler benchmarks with JMH. All JMH command-line options are supported, but unless
+ * a result format or result file is given, results are written as JSON to {@value #RESULT_FILE},
+ * so that they can be compared between runs. For example, to benchmark only small catalogs:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar -p tables=10,100
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+  static final String RESULT_FILE = "schemacrawler-benchmarks.json";
+
+  public static void main(final String[] args) throws Exception {
+    final List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+    if (!jmhArgs.contains("-rf")) {
+      jmhArgs.add("-rf");
+      jmhArgs.add("json");
+    }
+    if (!jmhArgs.contains("-rff")) {
+      jmhArgs.add("-rff");
+      jmhArgs.add(RESULT_FILE);
+    }
+    Main.main(jmhArgs.toArray(new String[0]));
+  }
+
+  private BenchmarkMain() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+
+/**
+ * Formats the synthetic catalog as a diagram. Only the DOT file that SchemaCrawler generates is
+ * measured, so that Graphviz is not needed, and is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiagramBenchmark {
+
+  @Param({"brief", "schema", "details"})
+  public String command;
+
+  @Benchmark
+  public void diagram(final SyntheticCatalogState state) throws Exception {
+    state.execute(
+        command, DiagramOutputFormat.scdot.getFormat(), DiagramOptionsBuilder.builder().toConfig());
+  }
+}
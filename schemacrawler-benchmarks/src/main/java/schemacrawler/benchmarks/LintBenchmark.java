@@ -0,0 +1,51 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.lint.LintResultsCache;
+import schemacrawler.tools.options.ConfigUtility;
+
+/**
+ * Lints the synthetic catalog with the default linters, and writes the lint report in each report
+ * format. Cached lint results are discarded before each run, so that the lint engine is measured,
+ * and not only the lint report.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LintBenchmark {
+
+  @Param({"text", "json"})
+  public String outputFormat;
+
+  @Benchmark
+  public void lint(final SyntheticCatalogState state) throws Exception {
+    LintResultsCache.invalidate(state.getCatalog());
+    state.execute("lint", outputFormat, ConfigUtility.newConfig());
+  }
+
+  @Benchmark
+  public void lintCached(final SyntheticCatalogState state) throws Exception {
+    state.execute("lint", outputFormat, ConfigUtility.newConfig());
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.options.ConfigUtility;
+
+/**
+ * Runs operations against the tables in the synthetic catalog, and formats the data. Each table
+ * has {@value SyntheticCatalogState#ROWS_PER_TABLE} rows, so the data text formatter is measured
+ * more than the in-memory database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OperationBenchmark {
+
+  @Param({"count", "dump"})
+  public String operation;
+
+  @Param({"text", "html"})
+  public String outputFormat;
+
+  @Benchmark
+  public void operation(final SyntheticCatalogState state) throws Exception {
+    state.execute(operation, outputFormat, ConfigUtility.newConfig());
+  }
+}
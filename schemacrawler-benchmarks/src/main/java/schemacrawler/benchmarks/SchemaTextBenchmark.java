@@ -0,0 +1,43 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
+
+/** Formats the synthetic catalog as schema text, in each text output format. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaTextBenchmark {
+
+  @Param({"brief", "schema", "details"})
+  public String command;
+
+  @Param({"text", "html", "tsv"})
+  public String outputFormat;
+
+  @Benchmark
+  public void schemaText(final SyntheticCatalogState state) throws Exception {
+    state.execute(command, outputFormat, SchemaTextOptionsBuilder.builder().toConfig());
+  }
+}
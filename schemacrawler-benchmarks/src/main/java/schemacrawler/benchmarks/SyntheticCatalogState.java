@@ -0,0 +1,331 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.ConfigUtility;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.utility.DatabaseConnectorUtility;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.MultiUseUserCredentials;
+
+/**
+ * Synthetic catalog, of a size given by benchmark parameters. The schema is created in an
+ * in-memory HSQLDB database, so that no database server is needed, and it is crawled once for each
+ * trial. Every benchmark then runs commands against the same loaded catalog, so that only
+ * formatting, linting or serialization is measured, and not the crawl.
+ */
+@State(Scope.Benchmark)
+public class SyntheticCatalogState {
+
+  static final String SCHEMA = "SYNTHETIC";
+  static final int ROWS_PER_TABLE = 10;
+
+  // Fixed seed, so that every trial has the same schema for the same parameters
+  private static final long SEED = 17L;
+
+  private static String columnDefinition(final int column) {
+    final String columnName = columnName(column);
+    switch (column % 4) {
+      case 0:
+        return columnName + " INTEGER";
+      case 1:
+        return columnName + " VARCHAR(40)";
+      case 2:
+        return columnName + " DECIMAL(12, 2)";
+      default:
+        return columnName + " TIMESTAMP";
+    }
+  }
+
+  private static String columnName(final int column) {
+    return String.format(Locale.ROOT, "COLUMN_%03d", column);
+  }
+
+  private static String columnValue(final int column, final int row) {
+    switch (column % 4) {
+      case 0:
+        return String.valueOf(row * column);
+      case 1:
+        return String.format(Locale.ROOT, "'Value %d-%d'", row, column);
+      case 2:
+        return String.format(Locale.ROOT, "%d.%02d", row, column % 100);
+      default:
+        return String.format(Locale.ROOT, "TIMESTAMP '2000-01-%02d 00:00:00'", row % 28 + 1);
+    }
+  }
+
+  private static String routineName(final int routine) {
+    return String.format(Locale.ROOT, "ROUTINE_%04d", routine);
+  }
+
+  private static String tableName(final int table) {
+    return String.format(Locale.ROOT, "TABLE_%04d", table);
+  }
+
+  /** Number of tables in the schema. */
+  @Param({"10", "100", "1000"})
+  public int tables;
+
+  /** Number of data columns in each table, not counting primary and foreign key columns. */
+  @Param({"10"})
+  public int columnsPerTable;
+
+  /** Average number of foreign keys for each table, to tables created before it. */
+  @Param({"1.0"})
+  public double fkDensity;
+
+  /** Number of routines in the schema. */
+  @Param({"10"})
+  public int routines;
+
+  private String connectionUrl;
+  private DatabaseConnectionSource connectionSource;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+  private Catalog catalog;
+  private Path outputDirectory;
+
+  /**
+   * Runs a command against the loaded catalog, and discards the output.
+   *
+   * @param command SchemaCrawler command
+   * @param outputFormat Output format for the command
+   * @param additionalConfig Additional configuration for the command
+   */
+  public void execute(
+      final String command, final String outputFormat, final Config additionalConfig)
+      throws Exception {
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(outputFormat)
+            .withOutputWriter(Writer.nullWriter())
+            .toOptions();
+    execute(command, outputOptions, additionalConfig);
+  }
+
+  /**
+   * Runs a command against the loaded catalog, and writes the output to a file. Needed for
+   * commands that write binary output, and cannot write to a writer.
+   *
+   * @param command SchemaCrawler command
+   * @param outputFormat Output format for the command
+   * @param additionalConfig Additional configuration for the command
+   */
+  public void executeToFile(
+      final String command, final String outputFormat, final Config additionalConfig)
+      throws Exception {
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(outputFormat)
+            .withOutputFile(outputDirectory.resolve("output." + outputFormat))
+            .toOptions();
+    execute(command, outputOptions, additionalConfig);
+  }
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    connectionUrl = "jdbc:hsqldb:mem:" + UUID.randomUUID();
+    try (final Connection connection = DriverManager.getConnection(connectionUrl, "SA", "");
+        final Statement statement = connection.createStatement()) {
+      for (final String sql : syntheticSchema()) {
+        statement.execute(sql);
+      }
+    }
+
+    connectionSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionUrl, new MultiUseUserCredentials("SA", ""));
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\." + SCHEMA))
+            .includeRoutines(new IncludeAll());
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+    schemaRetrievalOptions = DatabaseConnectorUtility.matchSchemaRetrievalOptions(connectionSource);
+
+    catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions,
+            ConfigUtility.newConfig());
+    requireNonNull(catalog, "Could not load synthetic catalog");
+
+    outputDirectory = Files.createTempDirectory("schemacrawler-benchmarks");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    if (connectionSource != null) {
+      connectionSource.close();
+      connectionSource = null;
+    }
+    try (final Connection connection = DriverManager.getConnection(connectionUrl, "SA", "");
+        final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    } catch (final SQLException e) {
+      // Database is already shut down
+    }
+    if (outputDirectory != null) {
+      deleteOutputDirectory();
+    }
+    catalog = null;
+  }
+
+  private void deleteOutputDirectory() throws IOException {
+    try (final var paths = Files.list(outputDirectory)) {
+      for (final Path path : (Iterable<Path>) paths::iterator) {
+        Files.deleteIfExists(path);
+      }
+    }
+    Files.deleteIfExists(outputDirectory);
+    outputDirectory = null;
+  }
+
+  private void execute(
+      final String command, final OutputOptions outputOptions, final Config additionalConfig)
+      throws Exception {
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
+    executable.setAdditionalConfiguration(additionalConfig);
+    executable.setOutputOptions(outputOptions);
+    executable.setConnectionSource(connectionSource);
+    executable.setCatalog(catalog);
+    executable.execute();
+  }
+
+  /**
+   * Generates SQL for a schema with the requested number of tables, columns, foreign keys and
+   * routines, and a few rows of data in each table for operations.
+   */
+  private List<String> syntheticSchema() {
+    final Random random = new Random(SEED);
+    final List<String> sql = new ArrayList<>();
+    sql.add("CREATE SCHEMA " + SCHEMA + " AUTHORIZATION DBA");
+    sql.add("SET SCHEMA " + SCHEMA);
+
+    for (int table = 0; table < tables; table++) {
+      final List<String> columnDefinitions = new ArrayList<>();
+      final List<String> columnNames = new ArrayList<>();
+      final List<String> constraints = new ArrayList<>();
+
+      columnDefinitions.add("ID INTEGER NOT NULL");
+      columnNames.add("ID");
+      constraints.add("CONSTRAINT PK_" + tableName(table) + " PRIMARY KEY (ID)");
+      for (int column = 0; column < columnsPerTable; column++) {
+        columnDefinitions.add(columnDefinition(column));
+        columnNames.add(columnName(column));
+      }
+
+      final List<Integer> referencedTables = new ArrayList<>();
+      if (table > 0) {
+        final int foreignKeys =
+            (int) fkDensity + (random.nextDouble() < fkDensity - (int) fkDensity ? 1 : 0);
+        for (int foreignKey = 0; foreignKey < foreignKeys; foreignKey++) {
+          final int referencedTable = random.nextInt(table);
+          final String fkColumnName = String.format(Locale.ROOT, "FK_%03d", foreignKey);
+          columnDefinitions.add(fkColumnName + " INTEGER");
+          columnNames.add(fkColumnName);
+          constraints.add(
+              String.format(
+                  Locale.ROOT,
+                  "CONSTRAINT FK_%s_%03d FOREIGN KEY (%s) REFERENCES %s (ID)",
+                  tableName(table),
+                  foreignKey,
+                  fkColumnName,
+                  tableName(referencedTable)));
+          referencedTables.add(referencedTable);
+        }
+      }
+
+      final List<String> tableElements = new ArrayList<>(columnDefinitions);
+      tableElements.addAll(constraints);
+      sql.add(
+          String.format(
+              "CREATE TABLE %s (%s)", tableName(table), String.join(", ", tableElements)));
+      if (columnsPerTable > 1) {
+        sql.add(
+            String.format(
+                "CREATE INDEX IDX_%s ON %s (%s)",
+                tableName(table), tableName(table), columnName(1)));
+      }
+
+      for (int row = 1; row <= ROWS_PER_TABLE; row++) {
+        final List<String> values = new ArrayList<>();
+        values.add(String.valueOf(row));
+        for (int column = 0; column < columnsPerTable; column++) {
+          values.add(columnValue(column, row));
+        }
+        for (int foreignKey = 0; foreignKey < referencedTables.size(); foreignKey++) {
+          values.add(String.valueOf(random.nextInt(ROWS_PER_TABLE) + 1));
+        }
+        sql.add(
+            String.format(
+                "INSERT INTO %s (%s) VALUES (%s)",
+                tableName(table), String.join(", ", columnNames), String.join(", ", values)));
+      }
+    }
+
+    for (int routine = 0; routine < routines; routine++) {
+      sql.add(
+          String.format(
+              Locale.ROOT,
+              "CREATE FUNCTION %s(X INTEGER) RETURNS INTEGER RETURN X + %d",
+              routineName(routine),
+              routine));
+    }
+
+    return sql;
+  }
+}
@@ -10,11 +10,9 @@ package schemacrawler.tools.command.text.diagram;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat.scdot;
-import static us.fatehi.utility.IOUtility.createTempFilePath;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
@@ -26,15 +24,19 @@ import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.formatter.diagram.SchemaDotFormatter;
 import schemacrawler.tools.traversal.ModelHelper;
+import schemacrawler.tools.traversal.SchemaTraversalCommand;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraverser;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.property.PropertyName;
 
-public final class DiagramRenderer extends AbstractSchemaCrawlerCommand<DiagramOptions> {
+public final class DiagramRenderer extends AbstractSchemaCrawlerCommand<DiagramOptions>
+    implements SchemaTraversalCommand {
 
   private DiagramOutputFormat diagramOutputFormat;
   private final GraphExecutorFactory graphExecutorFactory;
+  private boolean isDotOnly;
+  private StringWriter dot;
 
   public DiagramRenderer(
       final PropertyName command, final GraphExecutorFactory graphExecutorFactory) {
@@ -43,75 +45,90 @@ public final class DiagramRenderer extends AbstractSchemaCrawlerCommand<DiagramO
         requireNonNull(graphExecutorFactory, "No graph executor factory provided");
   }
 
-  /** {@inheritDoc} */
   @Override
-  public void execute() {
-    checkCatalog();
-
+  public void afterTraversal() {
     // Set the format, in case we are using the default
+    final Path outputFile = outputOptions.getOutputFile(outputOptions.getOutputFormatValue());
     outputOptions =
         OutputOptionsBuilder.builder(outputOptions)
             .withOutputFormat(diagramOutputFormat)
             .withOutputFormatValue(diagramOutputFormat.getFormat())
+            .withOutputFile(outputFile)
             .toOptions();
 
-    // Create dot file
-    final Path dotFile;
-    try {
-      dotFile = createTempFilePath("schemacrawler.", "dot");
-    } catch (final IOException e) {
-      throw new UncheckedIOException("Could not create temporary DOT file", e);
+    if (isDotOnly) {
+      return;
     }
-    final OutputOptions dotFileOutputOptions;
-    if (diagramOutputFormat == scdot) {
-      dotFileOutputOptions = outputOptions;
-    } else {
-      dotFileOutputOptions =
-          OutputOptionsBuilder.builder(outputOptions)
-              .withOutputFormat(scdot)
-              .withOutputFile(dotFile)
-              .toOptions();
+
+    try {
+      final GraphExecutor graphExecutor =
+          graphExecutorFactory.getGraphExecutor(
+              dot.toString(), diagramOutputFormat, outputFile, commandOptions);
+      graphExecutor.run();
+    } catch (final Exception e) {
+      final String errorMessage = extractErrorMessage(e);
+      final String helpText = readResourceFully("/dot.error.txt");
+      throw new ExecutionRuntimeException("%s%n%n%s".formatted(errorMessage, helpText), e);
     }
+  }
+
+  @Override
+  public void configureTraverser(final SchemaTraverser traverser) {
+    traverser.setTablesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+  }
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler(dotFileOutputOptions);
+  /** {@inheritDoc} */
+  @Override
+  public void execute() {
+    checkCatalog();
+
+    final SchemaTraversalHandler formatter = newSchemaTraversalHandler();
 
     final SchemaTraverser traverser = new SchemaTraverser();
     transferState(traverser);
     // Note: No need to set connection source on the command
     traverser.setHandler(formatter);
-    traverser.setTablesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    configureTraverser(traverser);
 
     traverser.traverse();
 
+    afterTraversal();
+  }
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    diagramOutputFormat = DiagramOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
+    graphExecutorFactory.canGenerate(diagramOutputFormat);
+  }
+
+  @Override
+  public SchemaTraversalHandler newSchemaTraversalHandler() {
     // Set the format, in case we are using the default
-    final Path outputFile = outputOptions.getOutputFile(outputOptions.getOutputFormatValue());
     outputOptions =
         OutputOptionsBuilder.builder(outputOptions)
             .withOutputFormat(diagramOutputFormat)
             .withOutputFormatValue(diagramOutputFormat.getFormat())
-            .withOutputFile(outputFile)
             .toOptions();
 
-    try {
-      final GraphExecutor graphExecutor =
-          graphExecutorFactory.getGraphExecutor(
-              dotFile, diagramOutputFormat, outputFile, commandOptions);
-      graphExecutor.run();
-    } catch (final Exception e) {
-      final String errorMessage = extractErrorMessage(e);
-      final String helpText = readResourceFully("/dot.error.txt");
-      throw new ExecutionRuntimeException("%s%n%n%s".formatted(errorMessage, helpText), e);
+    // Render DOT in memory, to be streamed to Graphviz, unless DOT is the only output
+    isDotOnly = diagramOutputFormat == scdot && !commandOptions.isBatchOutput();
+    dot = new StringWriter();
+    final OutputOptions dotFileOutputOptions;
+    if (isDotOnly) {
+      dotFileOutputOptions = outputOptions;
+    } else {
+      dotFileOutputOptions =
+          OutputOptionsBuilder.builder(outputOptions)
+              .withOutputFormat(scdot)
+              .withOutputWriter(dot)
+              .toOptions();
     }
-  }
 
-  @Override
-  public void initialize() {
-    super.initialize();
-    diagramOutputFormat = DiagramOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
-    graphExecutorFactory.canGenerate(diagramOutputFormat);
+    return getSchemaTraversalHandler(dotFileOutputOptions);
   }
 
   @Override
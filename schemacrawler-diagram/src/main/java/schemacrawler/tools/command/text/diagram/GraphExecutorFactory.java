@@ -13,7 +13,6 @@ import static schemacrawler.tools.command.text.diagram.options.DiagramOutputForm
 import static us.fatehi.utility.IOUtility.readResourceFully;
 
 import java.nio.file.Path;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schemacrawler.exceptions.ConfigurationException;
@@ -36,29 +35,45 @@ public class GraphExecutorFactory {
         "Cannot generate diagram in <%s> output format".formatted(diagramOutputFormat));
   }
 
+  /**
+   * Gets an executor that streams an in-memory DOT graph to Graphviz, without a temporary DOT
+   * file. If batch diagram formats are configured, the executor generates the diagram in each of
+   * those formats too, from the same DOT graph.
+   *
+   * @param dot DOT graph
+   * @param diagramOutputFormat Diagram output format
+   * @param outputFile Diagram output file
+   * @param commandOptions Diagram options, with Graphviz command-line options
+   * @return Graph executor
+   */
   public GraphExecutor getGraphExecutor(
-      final Path dotFile,
+      final String dot,
       final DiagramOutputFormat diagramOutputFormat,
       final Path outputFile,
       final DiagramOptions commandOptions) {
 
-    GraphExecutor graphExecutor;
-    if (diagramOutputFormat != scdot) {
-      final List<String> graphvizOpts = commandOptions.getGraphvizOpts();
-      boolean graphExecutorAvailable = false;
-
-      // Try 1: Use Graphviz
+    final GraphExecutor graphExecutor;
+    if (commandOptions.isBatchOutput()) {
       graphExecutor =
-          new GraphvizProcessExecutor(dotFile, outputFile, diagramOutputFormat, graphvizOpts);
-      graphExecutorAvailable = graphExecutor.canGenerate();
-
-      if (!graphExecutorAvailable) {
-        final String message = readResourceFully("/dot.error.txt");
-        throw new ExecutionRuntimeException(message);
-      }
-
+          new GraphvizBatchExecutor(
+              dot,
+              outputFile,
+              diagramOutputFormat,
+              commandOptions.getBatchOutputFormats(),
+              commandOptions.getGraphvizOpts(),
+              commandOptions.getBatchMaxThreads());
+    } else if (diagramOutputFormat != scdot) {
+      graphExecutor =
+          new GraphvizStreamExecutor(
+              dot, outputFile, diagramOutputFormat, commandOptions.getGraphvizOpts());
     } else {
-      graphExecutor = new GraphNoOpExecutor(diagramOutputFormat);
+      throw new ExecutionRuntimeException(
+          "DOT output does not need Graphviz, format should not be <%s>".formatted(scdot));
+    }
+
+    if (!graphExecutor.canGenerate()) {
+      final String message = readResourceFully("/dot.error.txt");
+      throw new ExecutionRuntimeException(message);
     }
 
     LOGGER.log(Level.INFO, "Using " + graphExecutor);
@@ -0,0 +1,212 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.command.text.diagram.GraphvizUtility.isGraphvizAvailable;
+import static schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat.scdot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Generates a diagram in several formats from a single DOT graph, on a bounded pool of Graphviz
+ * processes. Additional diagrams are written next to the diagram output file, with the same name
+ * and the extension of each format, unless that would overwrite another diagram. A manifest of the
+ * diagrams that were generated, with the time taken for each, is written next to the diagram
+ * output file.
+ */
+final class GraphvizBatchExecutor implements GraphExecutor {
+
+  private record DiagramResult(
+      DiagramOutputFormat diagramOutputFormat,
+      Path outputFile,
+      boolean successful,
+      long elapsedNanos) {}
+
+  private static final Logger LOGGER = Logger.getLogger(GraphvizBatchExecutor.class.getName());
+
+  private static Path siblingFile(final Path outputFile, final String extension) {
+    final String fileName = outputFile.getFileName().toString();
+    final int extensionIndex = fileName.lastIndexOf('.');
+    final String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    return outputFile.resolveSibling(baseName + "." + extension);
+  }
+
+  private final String dot;
+  private final Path outputFile;
+  private final Map<DiagramOutputFormat, Path> diagramFiles;
+  private final List<String> graphvizOpts;
+  private final int maxThreads;
+
+  GraphvizBatchExecutor(
+      final String dot,
+      final Path outputFile,
+      final DiagramOutputFormat diagramOutputFormat,
+      final List<DiagramOutputFormat> batchOutputFormats,
+      final List<String> graphvizOpts,
+      final int maxThreads) {
+    this.dot = requireNonNull(dot, "No DOT graph provided");
+    requireNonNull(outputFile, "No diagram output file provided");
+    requireNonNull(diagramOutputFormat, "No diagram output format provided");
+    requireNonNull(batchOutputFormats, "No batch diagram output formats provided");
+    this.graphvizOpts = requireNonNull(graphvizOpts, "No Graphviz options provided");
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("Max threads must be positive");
+    }
+    this.maxThreads = maxThreads;
+
+    this.outputFile = outputFile.normalize().toAbsolutePath();
+    diagramFiles = new LinkedHashMap<>();
+    diagramFiles.put(diagramOutputFormat, this.outputFile);
+    for (final DiagramOutputFormat batchOutputFormat : batchOutputFormats) {
+      final Path diagramFile = siblingFile(this.outputFile, batchOutputFormat.getFormat());
+      // Do not let two Graphviz processes write the same file, for example when the diagram
+      // output file has the extension of a batch format, but is in another format
+      if (diagramFiles.containsKey(batchOutputFormat) || diagramFiles.containsValue(diagramFile)) {
+        LOGGER.log(
+            Level.CONFIG,
+            new StringFormat(
+                "Not generating <%s> diagram, since it would overwrite <%s>",
+                batchOutputFormat, diagramFile));
+        continue;
+      }
+      diagramFiles.put(batchOutputFormat, diagramFile);
+    }
+  }
+
+  @Override
+  public boolean canGenerate() {
+    for (final DiagramOutputFormat diagramOutputFormat : diagramFiles.keySet()) {
+      if (diagramOutputFormat != scdot) {
+        return isGraphvizAvailable();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void run() {
+
+    final int threads = Math.min(maxThreads, diagramFiles.size());
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Generating %d diagrams on %d Graphviz processes", diagramFiles.size(), threads));
+
+    final List<DiagramResult> results = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<DiagramResult>> futures = new ArrayList<>();
+      for (final Map.Entry<DiagramOutputFormat, Path> diagramFile : diagramFiles.entrySet()) {
+        futures.add(
+            executor.submit(() -> generateDiagram(diagramFile.getKey(), diagramFile.getValue())));
+      }
+      for (final Future<DiagramResult> future : futures) {
+        results.add(awaitDiagram(future));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    writeManifest(results);
+    LOGGER.log(Level.INFO, (Supplier<String>) () -> getTimingsSummary(results));
+  }
+
+  @Override
+  public String toString() {
+    return "%s%s".formatted(getClass().getSimpleName(), diagramFiles.keySet());
+  }
+
+  private DiagramResult awaitDiagram(final Future<DiagramResult> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while generating diagrams", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ExecutionRuntimeException("Could not generate diagram", cause);
+    }
+  }
+
+  private DiagramResult generateDiagram(
+      final DiagramOutputFormat diagramOutputFormat, final Path diagramFile) throws IOException {
+    final long start = System.nanoTime();
+    final boolean successful;
+    if (diagramOutputFormat == scdot) {
+      // DOT output does not need Graphviz
+      Files.writeString(diagramFile, dot, UTF_8);
+      successful = true;
+    } else {
+      final GraphvizStreamExecutor streamExecutor =
+          new GraphvizStreamExecutor(dot, diagramFile, diagramOutputFormat, graphvizOpts);
+      streamExecutor.run();
+      successful = streamExecutor.isSuccessful();
+    }
+    return new DiagramResult(
+        diagramOutputFormat, diagramFile, successful, System.nanoTime() - start);
+  }
+
+  private String getTimingsSummary(final List<DiagramResult> results) {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("Batch diagram timings:%n".formatted());
+    for (final DiagramResult result : results) {
+      buffer.append(
+          "%10d ms %s%s%n"
+              .formatted(
+                  TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                  result.outputFile().getFileName(),
+                  result.successful() ? "" : " [failed]"));
+    }
+    return buffer.toString();
+  }
+
+  private void writeManifest(final List<DiagramResult> results) {
+    final Path manifestFile = siblingFile(outputFile, "manifest.txt");
+    final StringBuilder manifest = new StringBuilder(1024);
+    manifest.append("format\tstatus\telapsed_ms\tfile%n".formatted());
+    for (final DiagramResult result : results) {
+      manifest.append(
+          "%s\t%s\t%d\t%s%n"
+              .formatted(
+                  result.diagramOutputFormat().getFormat(),
+                  result.successful() ? "ok" : "failed",
+                  TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                  result.outputFile().getFileName()));
+    }
+    try {
+      Files.writeString(manifestFile, manifest, UTF_8);
+      LOGGER.log(Level.INFO, new StringFormat("Wrote batch diagram manifest <%s>", manifestFile));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not write batch diagram manifest", e);
+    }
+  }
+}
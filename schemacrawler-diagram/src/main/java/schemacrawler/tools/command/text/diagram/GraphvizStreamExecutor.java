@@ -0,0 +1,206 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.command.text.diagram.GraphvizUtility.isGraphvizAvailable;
+import static us.fatehi.utility.IOUtility.isFileWritable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs Graphviz with the DOT graph streamed to its standard input, so that no temporary DOT file is
+ * needed. Its standard output is written to a temporary file next to the diagram, which is moved
+ * into place only if Graphviz succeeds. The DOT graph is only written to a file next to the diagram
+ * if Graphviz fails, so that the diagram can be generated manually.
+ */
+final class GraphvizStreamExecutor implements GraphExecutor {
+
+  private static final Logger LOGGER = Logger.getLogger(GraphvizStreamExecutor.class.getName());
+
+  private final String dot;
+  private final Path outputFile;
+  private final DiagramOutputFormat diagramOutputFormat;
+  private final List<String> graphvizOpts;
+  private boolean successful;
+
+  GraphvizStreamExecutor(
+      final String dot,
+      final Path outputFile,
+      final DiagramOutputFormat diagramOutputFormat,
+      final List<String> graphvizOpts) {
+    this.dot = requireNonNull(dot, "No DOT graph provided");
+    requireNonNull(outputFile, "No diagram output file provided");
+    this.diagramOutputFormat =
+        requireNonNull(diagramOutputFormat, "No diagram output format provided");
+    this.graphvizOpts = requireNonNull(graphvizOpts, "No Graphviz options provided");
+
+    this.outputFile = outputFile.normalize().toAbsolutePath();
+    if (!isFileWritable(this.outputFile)) {
+      final IOException cause =
+          new IOException("Cannot write output file <%s>".formatted(this.outputFile));
+      throw new UncheckedIOException(cause);
+    }
+  }
+
+  @Override
+  public boolean canGenerate() {
+    return isGraphvizAvailable();
+  }
+
+  @Override
+  public void run() {
+
+    final List<String> command = createDiagramCommand();
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Generating diagram using Graphviz, from standard input:\n%s", command));
+
+    // Write the diagram to a temporary file next to it, so that an existing diagram is only
+    // replaced if Graphviz succeeds
+    final Path diagramFile = createTemporaryDiagramFile();
+    try {
+      final int exitCode;
+      final String processError;
+      try {
+        final Process process =
+            new ProcessBuilder(command).redirectOutput(diagramFile.toFile()).start();
+        // Read errors while the graph is written, so that Graphviz does not block on a full pipe
+        final CompletableFuture<String> errorReader =
+            CompletableFuture.supplyAsync(() -> readFully(process.getErrorStream()));
+        try (final OutputStream processInput = process.getOutputStream()) {
+          processInput.write(dot.getBytes(UTF_8));
+        } catch (final IOException e) {
+          // Graphviz stops reading on a syntax error, which is reported from its exit code
+          LOGGER.log(Level.FINE, "Graphviz did not read all of the DOT graph", e);
+        }
+        exitCode = process.waitFor();
+        processError = errorReader.join();
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Could not run Graphviz", e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ExecutionRuntimeException("Interrupted while running Graphviz", e);
+      }
+
+      successful = exitCode == 0;
+      if (!successful) {
+        System.err.println(processError);
+        LOGGER.log(
+            Level.SEVERE,
+            new StringFormat(
+                "Graphviz returned exit code <%d>%nGraphviz stderr:%n%s", exitCode, processError));
+        retainDotFile(command);
+      } else {
+        moveDiagramFile(diagramFile);
+        LOGGER.log(Level.FINE, new StringFormat("Graphviz stderr:%n%s", processError));
+        LOGGER.log(Level.INFO, new StringFormat("Generated diagram <%s>", outputFile));
+      }
+    } finally {
+      deleteTemporaryDiagramFile(diagramFile);
+    }
+  }
+
+  /**
+   * Whether the diagram was generated, after the executor has run.
+   *
+   * @return Whether Graphviz completed without errors
+   */
+  boolean isSuccessful() {
+    return successful;
+  }
+
+  private List<String> createDiagramCommand() {
+    final List<String> command = new ArrayList<>();
+    command.add("dot");
+
+    command.addAll(graphvizOpts);
+
+    command.add("-T");
+    command.add(diagramOutputFormat.getFormat());
+
+    return command;
+  }
+
+  private Path createTemporaryDiagramFile() {
+    try {
+      return Files.createTempFile(
+          outputFile.getParent(), "." + outputFile.getFileName() + ".", ".tmp");
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Cannot create temporary diagram file for <%s>".formatted(outputFile), e);
+    }
+  }
+
+  private void deleteTemporaryDiagramFile(final Path diagramFile) {
+    try {
+      Files.deleteIfExists(diagramFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.FINEST, e, new StringFormat("Could not delete: %s", diagramFile));
+    }
+  }
+
+  private void moveDiagramFile(final Path diagramFile) {
+    try {
+      try {
+        Files.move(diagramFile, outputFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(diagramFile, outputFile, REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Cannot write diagram <%s>".formatted(outputFile), e);
+    }
+  }
+
+  private String readFully(final InputStream inputStream) {
+    try {
+      return new String(inputStream.readAllBytes(), UTF_8);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not read Graphviz stderr", e);
+      return "";
+    }
+  }
+
+  private void retainDotFile(final List<String> command) {
+    try {
+      final Path dotFile =
+          outputFile.resolveSibling(outputFile.getFileName() + ".dot").toAbsolutePath().normalize();
+      Files.writeString(dotFile, dot, UTF_8);
+
+      // Print command to run
+      command.add("-o");
+      command.add(outputFile.toString());
+      command.add(dotFile.toString());
+
+      LOGGER.log(
+          Level.SEVERE,
+          "Error generating diagram%nGenerate your diagram manually, using:%n%s"
+              .formatted(String.join(" ", command)));
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not retain generated DOT file", e);
+    }
+  }
+}
@@ -8,6 +8,9 @@
 
 package schemacrawler.tools.command.text.diagram;
 
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -19,10 +22,27 @@ import us.fatehi.utility.string.StringFormat;
 
 public final class GraphvizUtility {
 
+  /** Result of checking for Graphviz, which is done only once for each JVM. */
+  private record GraphvizProbe(boolean available, String version) {}
+
   private static final Logger LOGGER = Logger.getLogger(GraphvizUtility.class.getName());
 
   private static final String SC_GRAPHVIZ_PROC_DISABLE = "SC_GRAPHVIZ_PROC_DISABLE";
 
+  private static volatile GraphvizProbe graphvizProbe;
+
+  /**
+   * Gets the Graphviz version, as reported by {@code dot -V}.
+   *
+   * @return Graphviz version, or an empty string if Graphviz is not available
+   */
+  public static String getGraphvizVersion() {
+    if (!isGraphvizAvailable()) {
+      return "";
+    }
+    return probeGraphviz().version();
+  }
+
   public static boolean isGraphvizAvailable() {
 
     final boolean disableGraphviz =
@@ -32,6 +52,25 @@ public final class GraphvizUtility {
       return false;
     }
 
+    return probeGraphviz().available();
+  }
+
+  private static GraphvizProbe probeGraphviz() {
+    GraphvizProbe probe = graphvizProbe;
+    if (probe == null) {
+      synchronized (GraphvizUtility.class) {
+        probe = graphvizProbe;
+        if (probe == null) {
+          probe = runGraphvizProbe();
+          graphvizProbe = probe;
+        }
+      }
+    }
+    return probe;
+  }
+
+  private static GraphvizProbe runGraphvizProbe() {
+
     final List<String> command = new ArrayList<>();
     command.add("dot");
     command.add("-V");
@@ -43,16 +82,15 @@ public final class GraphvizUtility {
     processExecutor.setCommandLine(command);
 
     Integer exitCode;
+    String version = "";
     try {
       exitCode = processExecutor.call();
-      LOGGER.log(
-          Level.CONFIG,
-          new StringFormat(
-              "Graphviz stdout:%n%s", new FileContents(processExecutor.getProcessOutput())));
-      LOGGER.log(
-          Level.CONFIG,
-          new StringFormat(
-              "Graphviz stderr:%n%s", new FileContents(processExecutor.getProcessError())));
+      final String processOutput = new FileContents(processExecutor.getProcessOutput()).get();
+      final String processError = new FileContents(processExecutor.getProcessError()).get();
+      LOGGER.log(Level.CONFIG, new StringFormat("Graphviz stdout:%n%s", processOutput));
+      LOGGER.log(Level.CONFIG, new StringFormat("Graphviz stderr:%n%s", processError));
+      // Graphviz prints its version to stderr
+      version = isBlank(processError) ? trimToEmpty(processOutput) : trimToEmpty(processError);
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not execute Graphviz command", e);
       LOGGER.log(
@@ -68,11 +106,12 @@ public final class GraphvizUtility {
         new StringFormat(
             """
             Checking if diagram can be generated with Graphviz -\s
-             is Graphviz installed? = <%s>\
+             is Graphviz installed? = <%s> <%s>\
             """,
-            successful));
+            successful,
+            version));
 
-    return successful;
+    return new GraphvizProbe(successful, successful ? version : "");
   }
 
   private GraphvizUtility() {
@@ -21,6 +21,8 @@ public final class DiagramOptions extends SchemaTextOptions {
   private final boolean isShowForeignKeyCardinality;
   private final boolean isShowPrimaryKeyCardinality;
   private final boolean isShowFilteredTables;
+  private final List<DiagramOutputFormat> batchOutputFormats;
+  private final int batchMaxThreads;
 
   protected DiagramOptions(final DiagramOptionsBuilder diagramOptionsBuilder) {
     super(diagramOptionsBuilder);
@@ -30,6 +32,36 @@ public final class DiagramOptions extends SchemaTextOptions {
     isShowForeignKeyCardinality = diagramOptionsBuilder.isShowForeignKeyCardinality;
     isShowPrimaryKeyCardinality = diagramOptionsBuilder.isShowPrimaryKeyCardinality;
     isShowFilteredTables = diagramOptionsBuilder.isShowFilteredTables;
+    batchOutputFormats = diagramOptionsBuilder.batchOutputFormats;
+    batchMaxThreads = diagramOptionsBuilder.batchMaxThreads;
+  }
+
+  /**
+   * Maximum number of Graphviz processes that can run at the same time for batch diagrams.
+   *
+   * @return Maximum number of Graphviz processes
+   */
+  public int getBatchMaxThreads() {
+    return batchMaxThreads;
+  }
+
+  /**
+   * Additional diagram formats to generate from the same DOT graph, next to the diagram output
+   * file.
+   *
+   * @return Additional diagram formats, empty if batch diagrams are not enabled
+   */
+  public List<DiagramOutputFormat> getBatchOutputFormats() {
+    return batchOutputFormats;
+  }
+
+  /**
+   * Whether additional diagram formats are generated in the same run.
+   *
+   * @return Whether batch diagrams are enabled
+   */
+  public boolean isBatchOutput() {
+    return !batchOutputFormats.isEmpty();
   }
 
   public Map<String, String> getGraphvizAttributes() {
@@ -38,6 +38,12 @@ public final class DiagramOptionsBuilder
   private static final String GRAPH_GRAPHVIZ_OPTS = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz_opts";
   private static final String SC_GRAPHVIZ_OPTS = "SC_GRAPHVIZ_OPTS";
   private static final String GRAPH_GRAPHVIZ_ATTRIBUTES = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz";
+  private static final String GRAPH_BATCH_OUTPUT_FORMATS =
+      SCHEMACRAWLER_GRAPH_PREFIX + "batch.output_formats";
+  private static final String GRAPH_BATCH_MAX_THREADS =
+      SCHEMACRAWLER_GRAPH_PREFIX + "batch.max_threads";
+
+  private static final int DEFAULT_BATCH_MAX_THREADS = 4;
 
   private static final Logger LOGGER = Logger.getLogger(DiagramOptions.class.getName());
 
@@ -72,6 +78,8 @@ public final class DiagramOptionsBuilder
   protected boolean isShowForeignKeyCardinality;
   protected boolean isShowPrimaryKeyCardinality;
   protected boolean isShowFilteredTables;
+  protected List<DiagramOutputFormat> batchOutputFormats;
+  protected int batchMaxThreads;
 
   private DiagramOptionsBuilder() {
     // Default values
@@ -80,6 +88,8 @@ public final class DiagramOptionsBuilder
     isShowForeignKeyCardinality = true;
     isShowPrimaryKeyCardinality = true;
     isShowFilteredTables = true;
+    batchOutputFormats = List.of();
+    batchMaxThreads = DEFAULT_BATCH_MAX_THREADS;
   }
 
   @Override
@@ -100,6 +110,9 @@ public final class DiagramOptionsBuilder
       this.graphvizAttributes = graphvizAttributes;
     }
 
+    withBatchOutputFormats(readBatchOutputFormats(config));
+    withBatchMaxThreads(config.getIntegerValue(GRAPH_BATCH_MAX_THREADS, DEFAULT_BATCH_MAX_THREADS));
+
     return this;
   }
 
@@ -117,6 +130,9 @@ public final class DiagramOptionsBuilder
     graphvizOpts = options.getGraphvizOpts();
     graphvizAttributes = options.getGraphvizAttributes();
 
+    batchOutputFormats = options.getBatchOutputFormats();
+    batchMaxThreads = options.getBatchMaxThreads();
+
     return this;
   }
 
@@ -159,6 +175,13 @@ public final class DiagramOptionsBuilder
 
     graphvizAttributesToConfig(graphvizAttributes, config);
 
+    final List<String> batchFormats = new ArrayList<>();
+    for (final DiagramOutputFormat batchOutputFormat : batchOutputFormats) {
+      batchFormats.add(batchOutputFormat.getFormat());
+    }
+    config.put(GRAPH_BATCH_OUTPUT_FORMATS, join(batchFormats, ","));
+    config.put(GRAPH_BATCH_MAX_THREADS, batchMaxThreads);
+
     return config;
   }
 
@@ -167,6 +190,48 @@ public final class DiagramOptionsBuilder
     return new DiagramOptions(this);
   }
 
+  /**
+   * Sets the maximum number of Graphviz processes that can run at the same time for batch
+   * diagrams. Values that are not positive reset to the default.
+   *
+   * @param batchMaxThreads Maximum number of Graphviz processes
+   * @return Builder
+   */
+  public DiagramOptionsBuilder withBatchMaxThreads(final int batchMaxThreads) {
+    if (batchMaxThreads <= 0) {
+      this.batchMaxThreads = DEFAULT_BATCH_MAX_THREADS;
+    } else {
+      this.batchMaxThreads = batchMaxThreads;
+    }
+    return this;
+  }
+
+  /**
+   * Sets additional diagram formats to generate from the same DOT graph, in a single run. Formats
+   * that cannot be generated by Graphviz are ignored.
+   *
+   * @param batchOutputFormats Additional diagram formats
+   * @return Builder
+   */
+  public DiagramOptionsBuilder withBatchOutputFormats(
+      final List<DiagramOutputFormat> batchOutputFormats) {
+    if (batchOutputFormats == null) {
+      this.batchOutputFormats = List.of();
+      return this;
+    }
+    final List<DiagramOutputFormat> formats = new ArrayList<>();
+    for (final DiagramOutputFormat batchOutputFormat : batchOutputFormats) {
+      if (batchOutputFormat == null
+          || batchOutputFormat == DiagramOutputFormat.htmlx
+          || formats.contains(batchOutputFormat)) {
+        continue;
+      }
+      formats.add(batchOutputFormat);
+    }
+    this.batchOutputFormats = List.copyOf(formats);
+    return this;
+  }
+
   public DiagramOptionsBuilder withGraphvizAttributes(
       final Map<String, String> graphvizAttributes) {
     if (graphvizAttributes == null) {
@@ -226,6 +291,25 @@ public final class DiagramOptionsBuilder
     return graphvizAttributes;
   }
 
+  private List<DiagramOutputFormat> readBatchOutputFormats(final Config config) {
+    final String batchFormats = config.getStringValue(GRAPH_BATCH_OUTPUT_FORMATS, "");
+    if (isBlank(batchFormats)) {
+      return List.of();
+    }
+
+    final List<DiagramOutputFormat> batchOutputFormats = new ArrayList<>();
+    for (final String batchFormat : splitList(batchFormats, "[,\\s]+")) {
+      if (!DiagramOutputFormat.isSupportedFormat(batchFormat)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat("Ignoring unknown batch diagram format <%s>", batchFormat));
+        continue;
+      }
+      batchOutputFormats.add(DiagramOutputFormat.fromFormat(batchFormat));
+    }
+    return batchOutputFormats;
+  }
+
   private String readGraphvizOpts(final Config config) {
     final String scGraphvizOptsCfg = config.getStringValue(GRAPH_GRAPHVIZ_OPTS, "");
     if (!isBlank(scGraphvizOptsCfg)) {
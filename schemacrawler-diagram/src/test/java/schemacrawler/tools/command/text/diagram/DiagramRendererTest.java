@@ -12,12 +12,16 @@ import static java.nio.file.Files.createDirectories;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static schemacrawler.test.ExecutableTestUtility.hasSameContentAndTypeAs;
 import static schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder.builder;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
 import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -37,6 +41,7 @@ import schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder;
 import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
 import schemacrawler.tools.command.text.embeddeddiagram.EmbeddedDiagramRenderer;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.ConfigUtility;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.utility.DatabaseConnectorUtility;
@@ -157,6 +162,7 @@ public class DiagramRendererTest {
   public void checkGraphvizAvailabilityEnabled() throws Exception {
 
     assertThat(GraphvizUtility.isGraphvizAvailable(), is(true));
+    assertThat(GraphvizUtility.getGraphvizVersion(), containsString("graphviz version"));
   }
 
   @Test
@@ -180,6 +186,66 @@ public class DiagramRendererTest {
         testContext.testMethodName());
   }
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void diagramRenderer_batch(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+
+    final Config config = ConfigUtility.newConfig();
+    config.put("schemacrawler.graph.batch.output_formats", "svg, scdot,unknown,svg");
+    config.put("schemacrawler.graph.batch.max_threads", 2);
+    final DiagramOptions diagramOptions = builder().fromConfig(config).toOptions();
+    assertThat(
+        diagramOptions.getBatchOutputFormats(),
+        contains(DiagramOutputFormat.svg, DiagramOutputFormat.scdot));
+    assertThat(diagramOptions.getBatchMaxThreads(), is(2));
+
+    final DiagramRenderer diagramRenderer =
+        new DiagramRenderer(
+            SchemaTextDetailType.details.toPropertyName(), new GraphExecutorFactory());
+    diagramRenderer.configure(diagramOptions);
+    diagramRenderer.setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    diagramRenderer.setCatalog(getCatalog(connectionSource));
+
+    final Path outputFile =
+        commandExecution(connectionSource, diagramRenderer, DiagramOutputFormat.canon);
+
+    // Main diagram is the same as when it is not generated in a batch
+    assertThat(
+        outputOf(outputFile),
+        hasSameContentAndTypeAs(
+            classpathResource(DIAGRAM_OUTPUT + "diagramRenderer_graphviz.canon"),
+            DiagramOutputFormat.canon));
+    final String baseName = outputFile.getFileName().toString().replaceFirst("\\.[^.]*$", "");
+    assertThat(
+        Files.readString(outputFile.resolveSibling(baseName + ".svg")), containsString("<svg"));
+    assertThat(
+        Files.readString(outputFile.resolveSibling(baseName + ".scdot")),
+        containsString("digraph"));
+    final List<String> manifest =
+        Files.readAllLines(outputFile.resolveSibling(baseName + ".manifest.txt"));
+    assertThat(manifest.size(), is(4));
+    assertThat(manifest.get(0), is("format\tstatus\telapsed_ms\tfile"));
+    for (final String manifestLine : manifest.subList(1, manifest.size())) {
+      assertThat(manifestLine, containsString("\tok\t"));
+    }
+  }
+
+  @Test
+  public void diagramOptionsBatchDefaults() {
+    final DiagramOptions diagramOptions = builder().toOptions();
+    assertThat(diagramOptions.isBatchOutput(), is(false));
+    assertThat(diagramOptions.getBatchMaxThreads(), is(4));
+
+    final DiagramOptions batchOptions =
+        builder()
+            .withBatchOutputFormats(List.of(DiagramOutputFormat.pdf, DiagramOutputFormat.htmlx))
+            .withBatchMaxThreads(-1)
+            .toOptions();
+    assertThat(batchOptions.getBatchOutputFormats(), contains(DiagramOutputFormat.pdf));
+    assertThat(batchOptions.getBatchMaxThreads(), is(4));
+  }
+
   @Test
   @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
   public void embeddedDiagramRenderer_graphviz(
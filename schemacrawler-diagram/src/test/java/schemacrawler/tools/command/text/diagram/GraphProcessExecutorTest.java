@@ -9,10 +9,8 @@
 package schemacrawler.tools.command.text.diagram;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
-import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static us.fatehi.test.utility.extensions.FileHasContent.contentsOf;
 import static us.fatehi.test.utility.extensions.FileHasContent.hasNoContent;
@@ -23,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
@@ -34,71 +33,91 @@ import us.fatehi.utility.IOUtility;
 @Tag("graphviz")
 public class GraphProcessExecutorTest {
 
-  private final class TestGraphProcessExecutor extends AbstractGraphProcessExecutor {
-    private TestGraphProcessExecutor(
-        final Path dotFile, final Path outputFile, final DiagramOutputFormat diagramOutputFormat) {
-      super(dotFile, outputFile, diagramOutputFormat);
-    }
+  @Test
+  public void graphvizBatchExecutorSkipsMainOutputFile() {
 
-    @Override
-    public boolean canGenerate() {
-      return false;
-    }
+    final Path outputFile = IOUtility.createTempFilePath("diagram", "png");
+
+    // Main diagram is in SVG format, but has the file extension of a batch format
+    final GraphvizBatchExecutor batchExecutor =
+        new GraphvizBatchExecutor(
+            "digraph { a -> b }",
+            outputFile,
+            DiagramOutputFormat.svg,
+            List.of(DiagramOutputFormat.png, DiagramOutputFormat.svg, DiagramOutputFormat.pdf),
+            List.of(),
+            2);
 
-    @Override
-    public void run() {}
+    assertThat(batchExecutor.toString(), is("GraphvizBatchExecutor[svg, pdf]"));
   }
 
   @Test
-  public void constructorGraphProcessExecutor() throws IOException {
+  public void graphvizStreamExecutor() throws IOException {
 
-    final Path dotFile = Files.createTempFile("", "");
-    Files.write(dotFile, "hello, world".getBytes());
+    final Path outputFile = IOUtility.createTempFilePath("", "svg");
 
-    final Path outputFile = IOUtility.createTempFilePath("", "");
+    final GraphvizStreamExecutor streamExecutor =
+        new GraphvizStreamExecutor(
+            "digraph { a -> b }", outputFile, DiagramOutputFormat.svg, List.of());
+    streamExecutor.run();
 
-    final DiagramOutputFormat diagramOutputFormat = DiagramOutputFormat.png;
+    assertThat(Files.readString(outputFile), containsString("<svg"));
+    final Path dotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    assertThat(Files.exists(dotFile), is(false));
+  }
 
-    // Assert no errors
-    assertThat(
-        new TestGraphProcessExecutor(dotFile, outputFile, diagramOutputFormat),
-        is(not(nullValue())));
+  @Test
+  public void graphvizStreamExecutorError(final CapturedSystemStreams streams) throws IOException {
 
-    // DOT file not readable
-    final UncheckedIOException exception1 =
-        assertThrows(
-            UncheckedIOException.class,
-            () ->
-                new TestGraphProcessExecutor(
-                    IOUtility.createTempFilePath("sc", "data"), outputFile, diagramOutputFormat));
-    assertThat(exception1.getMessage(), containsString("Cannot read DOT file"));
+    final Path outputFile = IOUtility.createTempFilePath("", "png");
 
-    // Output file not writable
-    final UncheckedIOException exception2 =
-        assertThrows(
-            UncheckedIOException.class,
-            () ->
-                new TestGraphProcessExecutor(
-                    dotFile, Path.of("/not_a_directory/unwritable_file.dat"), diagramOutputFormat));
-    assertThat(exception2.getMessage(), containsString("Cannot write output file"));
+    // Graphviz error due to bad input
+    final GraphvizStreamExecutor streamExecutor =
+        new GraphvizStreamExecutor("hello, world", outputFile, DiagramOutputFormat.png, List.of());
+    streamExecutor.run();
+
+    assertThat(contentsOf(streams.err()), containsString("syntax error in line 1 near 'hello'"));
+    assertThat(outputOf(streams.out()), hasNoContent());
+    // DOT graph is retained, so that the diagram can be generated manually
+    final Path dotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    assertThat(Files.readString(dotFile), is("hello, world"));
   }
 
   @Test
-  public void graphvizProcessExecutorError(final CapturedSystemStreams streams) throws IOException {
-
-    final Path dotFile = Files.createTempFile("", "");
-    Files.write(dotFile, "hello, world".getBytes());
+  public void graphvizStreamExecutorErrorKeepsDiagram(final CapturedSystemStreams streams)
+      throws IOException {
 
-    final Path outputFile = IOUtility.createTempFilePath("", "");
-
-    final DiagramOutputFormat diagramOutputFormat = DiagramOutputFormat.png;
+    final Path outputFile = IOUtility.createTempFilePath("", "svg");
+    Files.writeString(outputFile, "earlier diagram");
 
     // Graphviz error due to bad input
-    final GraphvizProcessExecutor processExecutor =
-        new GraphvizProcessExecutor(dotFile, outputFile, diagramOutputFormat, List.of());
-    processExecutor.run();
+    final GraphvizStreamExecutor streamExecutor =
+        new GraphvizStreamExecutor("hello, world", outputFile, DiagramOutputFormat.svg, List.of());
+    streamExecutor.run();
+
+    assertThat(streamExecutor.isSuccessful(), is(false));
+    // Diagram from an earlier run is not overwritten
+    assertThat(Files.readString(outputFile), is("earlier diagram"));
+    // Temporary diagram file is removed
+    final String temporaryFilePrefix = "." + outputFile.getFileName() + ".";
+    try (final Stream<Path> files = Files.list(outputFile.getParent())) {
+      assertThat(
+          files.anyMatch(file -> file.getFileName().toString().startsWith(temporaryFilePrefix)),
+          is(false));
+    }
+  }
 
-    assertThat(contentsOf(streams.err()), containsString("syntax error in line 1 near 'hello'"));
-    assertThat(outputOf(streams.out()), hasNoContent());
+  @Test
+  public void graphvizStreamExecutorOutputNotWritable() {
+    final UncheckedIOException exception =
+        assertThrows(
+            UncheckedIOException.class,
+            () ->
+                new GraphvizStreamExecutor(
+                    "digraph { a -> b }",
+                    Path.of("/not_a_directory/unwritable_file.svg"),
+                    DiagramOutputFormat.svg,
+                    List.of()));
+    assertThat(exception.getMessage(), containsString("Cannot write output file"));
   }
 }
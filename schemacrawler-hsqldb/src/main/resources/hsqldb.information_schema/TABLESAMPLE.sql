@@ -3,10 +3,14 @@
 -- Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
+
+-- Rows from a random offset, bounded by the table row count, or random rows
+-- from the start of the table if the row count is not known
 SELECT 
   ${basiccolumns}
 FROM 
   ${table}
-ORDER BY 
-  RAND()
+WHERE
+  RAND() < ${samplefraction}
 LIMIT 10
+OFFSET ${sampleoffset}
@@ -15,8 +15,8 @@ import java.util.logging.Logger;
 import schemacrawler.tools.command.AbstractSchemaCrawlerCommand;
 import schemacrawler.tools.command.lint.options.LintOptions;
 import schemacrawler.tools.command.lint.options.LintReportOutputFormat;
-import schemacrawler.tools.lint.LinterRegistry;
-import schemacrawler.tools.lint.Linters;
+import schemacrawler.tools.lint.LintResults;
+import schemacrawler.tools.lint.LintResultsCache;
 import schemacrawler.tools.lint.Lints;
 import schemacrawler.tools.lint.config.LinterConfigs;
 import schemacrawler.tools.lint.config.LinterConfigsFormat;
@@ -46,23 +46,24 @@ public class LintCommand extends AbstractSchemaCrawlerCommand<LintOptions> {
     try {
       checkCatalog();
 
-      // Lint the catalog
+      // Lint the catalog, unless it was linted earlier with the same linter configuration
       final LinterConfigs linterConfigs = readLinterConfigs(commandOptions);
       LOGGER.log(Level.FINEST, new LinterConfigsFormat(linterConfigs));
-      final Linters linters = new Linters(linterConfigs, commandOptions.isRunAllLinters());
-      final LinterRegistry linterRegistry = LinterRegistry.getRegistry();
-      linters.initialize(linterRegistry);
-      transferState(linters);
-      linters.lint();
+      final LintResults lintResults =
+          LintResultsCache.lint(
+              this,
+              linterConfigs,
+              commandOptions.isRunAllLinters(),
+              commandOptions.getMaxLintConnections());
 
       // Produce the lint report
-      final Lints lints = linters.getLints();
+      final Lints lints = lintResults.getLints();
 
       // Write out the lint report
       LOGGER.log(Level.INFO, "Generating lint report");
       getLintReportBuilder().generateLintReport(lints);
 
-      linters.dispatch(commandOptions.getLintDispatch());
+      lintResults.dispatch(commandOptions.getLintDispatch());
 
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not run lint command", e);
@@ -47,6 +47,13 @@ public class LintCommandProvider extends AbstractSchemaCrawlerCommandProvider {
             "Specifies how to fail if a linter threshold is exceeded%n"
                 + "Optional, defaults to none%n"
                 + "Corresponds to the configuration file setting: schemacrawler.lint.lintdispatch")
+        .addOption(
+            "max-lint-connections",
+            Integer.class,
+            "Maximum number of database connections that linters can use at the same time%n"
+                + "Optional, defaults to 4%n"
+                + "Corresponds to the configuration file setting:"
+                + " schemacrawler.lint.max-lint-connections")
         .addOption(
             "run-all-linters",
             boolean.class,
@@ -20,6 +20,7 @@ public class LintOptions extends BaseTextOptions {
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
   private final boolean runAllLinters;
+  private final int maxLintConnections;
   private final Config config;
 
   public LintOptions(final LintOptionsBuilder builder) {
@@ -27,6 +28,7 @@ public class LintOptions extends BaseTextOptions {
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
     runAllLinters = builder.runAllLinters;
+    maxLintConnections = builder.maxLintConnections;
     requireNonNull(builder.config, "No properties provided");
     config = ConfigUtility.fromConfig(builder.config);
   }
@@ -58,6 +60,15 @@ public class LintOptions extends BaseTextOptions {
     return linterConfigs;
   }
 
+  /**
+   * Gets the maximum number of database connections that linters can use at the same time.
+   *
+   * @return Maximum number of database connections for linters.
+   */
+  public int getMaxLintConnections() {
+    return maxLintConnections;
+  }
+
   /**
    * Whether to run all linters, including the ones that are not explicitly configured.
    *
@@ -25,6 +25,15 @@ public final class LintOptionsBuilder
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
 
+  /** Command-line option for the maximum number of lint connections. */
+  public static final String CLI_MAX_LINT_CONNECTIONS = "max-lint-connections";
+
+  /** Configuration key for the maximum number of lint connections. */
+  public static final String MAX_LINT_CONNECTIONS =
+      SCHEMACRAWLER_LINT_PREFIX + CLI_MAX_LINT_CONNECTIONS;
+
+  private static final int DEFAULT_MAX_LINT_CONNECTIONS = 4;
+
   public static LintOptionsBuilder builder() {
     return new LintOptionsBuilder();
   }
@@ -32,12 +41,14 @@ public final class LintOptionsBuilder
   LintDispatch lintDispatch;
   String linterConfigs;
   boolean runAllLinters;
+  int maxLintConnections;
   Config config;
 
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
     runAllLinters = true;
+    maxLintConnections = DEFAULT_MAX_LINT_CONNECTIONS;
     config = toConfig();
   }
 
@@ -78,6 +89,17 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    final String maxLintConnectionsKey;
+    if (config.containsKey(CLI_MAX_LINT_CONNECTIONS)) {
+      // Honor command-line option first
+      maxLintConnectionsKey = CLI_MAX_LINT_CONNECTIONS;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      maxLintConnectionsKey = MAX_LINT_CONNECTIONS;
+    }
+    withMaxLintConnections(
+        config.getIntegerValue(maxLintConnectionsKey, DEFAULT_MAX_LINT_CONNECTIONS));
+
     // Save config
     this.config.merge(config);
 
@@ -94,6 +116,7 @@ public final class LintOptionsBuilder
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
     runAllLinters = options.isRunAllLinters();
+    maxLintConnections = options.getMaxLintConnections();
 
     return this;
   }
@@ -111,6 +134,7 @@ public final class LintOptionsBuilder
     config.put(LINTER_CONFIGS, linterConfigs);
     config.put(LINT_DISPATCH, lintDispatch);
     config.put(RUN_ALL_LINTERS, runAllLinters);
+    config.put(MAX_LINT_CONNECTIONS, maxLintConnections);
     // Lint report output format is not written to the config
     return config;
   }
@@ -130,6 +154,19 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * With the maximum number of database connections that linters can use at the same time.
+   * Non-positive values reset to the default.
+   */
+  public LintOptionsBuilder withMaxLintConnections(final int maxLintConnections) {
+    if (maxLintConnections <= 0) {
+      this.maxLintConnections = DEFAULT_MAX_LINT_CONNECTIONS;
+    } else {
+      this.maxLintConnections = maxLintConnections;
+    }
+    return this;
+  }
+
   /** With the name of a linter configs file. */
   public LintOptionsBuilder withLinterConfigs(final String linterConfigs) {
     this.linterConfigs = trimToEmpty(linterConfigs);
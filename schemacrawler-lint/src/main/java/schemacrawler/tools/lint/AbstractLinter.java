@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.AttributedObject;
@@ -35,6 +36,7 @@ public abstract class AbstractLinter extends AbstractCommand<LinterConfig> imple
   private LintSeverity severity;
   private int threshold;
   private int lintCount;
+  private Semaphore connectionPermits;
 
   protected AbstractLinter(final PropertyName linterName, final LintCollector lintCollector) {
     super(requireNonNull(linterName, "Linter name not provided"));
@@ -109,6 +111,26 @@ public abstract class AbstractLinter extends AbstractCommand<LinterConfig> imple
     return "%s [%s] - %s".formatted(getLinterInstanceId(), getSeverity(), getSummary());
   }
 
+  /**
+   * Acquires permits for database connections in addition to the one that the linter runs with,
+   * for linters that can use more than one connection at a time. Permits come from the same limit
+   * as the connections that linters run with, and are not waited for, so fewer permits than
+   * requested may be granted. Granted permits need to be released when the connections are closed.
+   *
+   * @param requested Number of additional connections wanted
+   * @return Number of additional connections that can be opened
+   */
+  protected final int acquireAdditionalConnections(final int requested) {
+    if (connectionPermits == null) {
+      return 0;
+    }
+    int acquired = 0;
+    while (acquired < requested && connectionPermits.tryAcquire()) {
+      acquired++;
+    }
+    return acquired;
+  }
+
   protected final <N extends NamedObject & AttributedObject, V extends Serializable> void addLint(
       final LintObjectType objectType, final N namedObject, final String message, final V value) {
     LOGGER.log(
@@ -137,6 +159,17 @@ public abstract class AbstractLinter extends AbstractCommand<LinterConfig> imple
     // To be overridden by subclass if they need custom parameters
   }
 
+  /**
+   * Releases permits for additional database connections.
+   *
+   * @param acquired Number of permits that were acquired
+   */
+  protected final void releaseAdditionalConnections(final int acquired) {
+    if (connectionPermits != null && acquired > 0) {
+      connectionPermits.release(acquired);
+    }
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -147,4 +180,13 @@ public abstract class AbstractLinter extends AbstractCommand<LinterConfig> imple
       this.severity = severity;
     }
   }
+
+  /**
+   * Sets the limit on database connections that the linter shares with other linters.
+   *
+   * @param connectionPermits Permits for database connections
+   */
+  final void setConnectionPermits(final Semaphore connectionPermits) {
+    this.connectionPermits = connectionPermits;
+  }
 }
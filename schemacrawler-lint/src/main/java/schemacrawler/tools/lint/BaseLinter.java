@@ -11,6 +11,7 @@ package schemacrawler.tools.lint;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -37,6 +38,8 @@ public abstract class BaseLinter extends AbstractLinter {
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
+  // Shared view of the table being linted, during a single pass lint
+  private LintTableView tableView;
 
   protected BaseLinter(final PropertyName linterName, final LintCollector lintCollector) {
     super(linterName, lintCollector);
@@ -95,10 +98,21 @@ public abstract class BaseLinter extends AbstractLinter {
     // Default implementation - NO-OP
   }
 
+  /**
+   * Gets the columns of a table that are included by the column inclusion rule. The list is
+   * unmodifiable, since it can be shared with other linters.
+   *
+   * @param table Table
+   * @return Included columns
+   */
   protected final List<Column> getColumns(final Table table) {
     if (table == null) {
       return List.of();
     }
+    if (tableView != null && tableView.getTable() == table) {
+      // Shared with other linters in the same pass, so the list is unmodifiable
+      return tableView.getColumns(columnInclusionRule);
+    }
 
     final List<Column> columns = new ArrayList<>(table.getColumns());
     for (final Iterator<Column> iterator = columns.iterator(); iterator.hasNext(); ) {
@@ -107,7 +121,7 @@ public abstract class BaseLinter extends AbstractLinter {
         iterator.remove();
       }
     }
-    return columns;
+    return Collections.unmodifiableList(columns);
   }
 
   /**
@@ -141,6 +155,28 @@ public abstract class BaseLinter extends AbstractLinter {
     // Default implementation - NO-OP
   }
 
+  /**
+   * Lints a table as part of a single pass over the catalog, using a view of the table that is
+   * shared with other linters.
+   *
+   * @param tableView Shared view of the table
+   * @param connection Connection shared by all linters in the pass, or null
+   */
+  final void lint(final LintTableView tableView, final Connection connection) {
+    final Table table = tableView.getTable();
+    if (!tableView.includeTable(tableInclusionRule) || !tableTypesFilter.test(table)) {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+      return;
+    }
+    this.tableView = tableView;
+    try {
+      lint(table, connection);
+    } finally {
+      this.tableView = null;
+    }
+  }
+
   private final boolean includeColumn(final Column column) {
     return column != null && columnInclusionRule.test(column.getFullName());
   }
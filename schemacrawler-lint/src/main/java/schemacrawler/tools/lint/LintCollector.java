@@ -9,36 +9,57 @@
 
 package schemacrawler.tools.lint;
 
-import java.io.Serializable;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.concurrent.CopyOnWriteArraySet;
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.lint.LintUtility.LINT_COMPARATOR;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import schemacrawler.schema.NamedObject;
 
-/** Thread-safe class that can collect lints from all linters. */
+/**
+ * Thread-safe class that can collect lints from all linters. Each linter instance appends to its
+ * own lock-free buffer, and duplicates are detected with a concurrent hash index. Buffers are
+ * merged into a single sorted list when the lints are requested.
+ */
 public final class LintCollector {
 
-  private final Collection<Lint<? extends Serializable>> allLints;
+  private final Set<Lint<? extends Serializable>> lintsIndex;
+  private final Map<String, Queue<Lint<? extends Serializable>>> lintsByLinter;
 
   LintCollector() {
-    allLints = new CopyOnWriteArraySet<>();
+    lintsIndex = ConcurrentHashMap.newKeySet();
+    lintsByLinter = new ConcurrentHashMap<>();
   }
 
   <N extends NamedObject> void addLint(final N namedObject, final Lint<?> lint) {
     requireNonNull(namedObject, "No named object provided");
     requireNonNull(lint, "No lint provided");
-    if (namedObject.key().equals(lint.getObjectKey())) {
-      allLints.add(lint);
+    if (namedObject.key().equals(lint.getObjectKey()) && lintsIndex.add(lint)) {
+      lintsByLinter
+          .computeIfAbsent(lint.getLinterInstanceId(), key -> new ConcurrentLinkedQueue<>())
+          .add(lint);
     }
   }
 
   /**
-   * Get all lints collected by the collector.
+   * Get all lints collected by the collector, sorted in natural sorting order. The returned list
+   * is unmodifiable.
    *
    * @return All lints collected by the collector.
    */
-  Collection<Lint<? extends Serializable>> getLints() {
-    return new HashSet<>(allLints);
+  List<Lint<? extends Serializable>> getLints() {
+    final List<Lint<? extends Serializable>> lints = new ArrayList<>(lintsIndex.size());
+    for (final Queue<Lint<? extends Serializable>> linterLints : lintsByLinter.values()) {
+      lints.addAll(linterLints);
+    }
+    lints.sort(LINT_COMPARATOR);
+    return Collections.unmodifiableList(lints);
   }
 }
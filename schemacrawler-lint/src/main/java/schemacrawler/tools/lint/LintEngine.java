@@ -0,0 +1,99 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs catalog linters in a single pass over the tables in the catalog. Each table is dispatched,
+ * with a shared view of its filtered columns, to every linter in turn, instead of each linter
+ * walking the catalog on its own. Linter start and end hooks are called before and after the
+ * pass. Every linter is given the same connection, just as it is given a connection when it walks
+ * the catalog on its own, so that linters can look up database details such as reserved words. A
+ * linter that fails is dropped from the rest of the pass, which is the same as a linter failing
+ * when it walks the catalog on its own.
+ */
+final class LintEngine {
+
+  private static final Logger LOGGER = Logger.getLogger(LintEngine.class.getName());
+
+  private final Catalog catalog;
+
+  LintEngine(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  /**
+   * Runs linters over all tables in the catalog. Linters need to be initialized, and have their
+   * state set before the pass.
+   *
+   * @param linters Catalog linters, that do not run queries against the database
+   * @param connection Connection for the linters, which may be null if there is no connection
+   */
+  void lint(final List<BaseLinter> linters, final Connection connection) {
+    requireNonNull(linters, "No linters provided");
+    if (linters.isEmpty()) {
+      return;
+    }
+
+    LOGGER.log(
+        Level.CONFIG, new StringFormat("Running %d linters in a single pass", linters.size()));
+
+    final List<BaseLinter> activeLinters = new ArrayList<>(linters.size());
+    for (final BaseLinter linter : linters) {
+      try {
+        linter.start(connection);
+        activeLinters.add(linter);
+      } catch (final Exception e) {
+        logFailure(linter, e);
+      }
+    }
+
+    for (final Table table : catalog.getTables()) {
+      if (table == null) {
+        continue;
+      }
+      final LintTableView tableView = new LintTableView(table);
+      for (final Iterator<BaseLinter> iterator = activeLinters.iterator(); iterator.hasNext(); ) {
+        final BaseLinter linter = iterator.next();
+        try {
+          linter.lint(tableView, connection);
+        } catch (final Exception e) {
+          logFailure(linter, e);
+          iterator.remove();
+        }
+      }
+    }
+
+    for (final BaseLinter linter : activeLinters) {
+      try {
+        linter.end(connection);
+      } catch (final Exception e) {
+        logFailure(linter, e);
+      }
+    }
+  }
+
+  private void logFailure(final BaseLinter linter, final Exception e) {
+    LOGGER.log(
+        Level.WARNING,
+        e,
+        new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+  }
+}
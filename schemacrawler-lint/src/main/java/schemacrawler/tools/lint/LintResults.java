@@ -0,0 +1,65 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Results of a lint run, which can be reported on and dispatched without holding on to the linters,
+ * or to the database connections that they used.
+ */
+public final class LintResults {
+
+  private static final Logger LOGGER = Logger.getLogger(LintResults.class.getName());
+
+  private final Lints lints;
+  private final String lintSummary;
+  private final boolean exceedsThreshold;
+
+  LintResults(final Lints lints, final String lintSummary, final boolean exceedsThreshold) {
+    this.lints = requireNonNull(lints, "No lints provided");
+    this.lintSummary = requireNonNull(lintSummary, "No lint summary provided");
+    this.exceedsThreshold = exceedsThreshold;
+  }
+
+  public void dispatch(final LintDispatch lintDispatch) {
+
+    LOGGER.log(Level.INFO, lintSummary);
+
+    if (lintDispatch == null || lintDispatch == LintDispatch.none) {
+      return;
+    }
+
+    if (exceedsThreshold) {
+      LOGGER.log(Level.INFO, "Dispatching lint results");
+      System.err.println(lintSummary);
+      lintDispatch.dispatch();
+    }
+  }
+
+  /**
+   * Whether any linter found more lints than its threshold.
+   *
+   * @return Whether the lint threshold was exceeded
+   */
+  public boolean exceedsThreshold() {
+    return exceedsThreshold;
+  }
+
+  public Lints getLints() {
+    return lints;
+  }
+
+  public String getLintSummary() {
+    return lintSummary;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.lint.config.LinterConfigs;
+import schemacrawler.tools.state.ExecutionState;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Process-wide cache of lint results, so that the lint, Scribe and script commands that lint the
+ * same catalog in a session run the linters, including the ones that query the database, only once.
+ * Results are keyed by the identity of the catalog, so that loading a catalog again, or clearing
+ * it, invalidates them, and by a snapshot of the linter configuration that is compared by value.
+ * Settings that only change how linters run, such as the number of threads or connections, are not
+ * part of the snapshot, so that commands that run the same linters share results. Catalogs are only
+ * weakly referenced, and a bounded number of results is kept, with the least recently used results
+ * evicted first.
+ */
+public final class LintResultsCache {
+
+  private record CacheEntry(
+      WeakReference<Catalog> catalogReference, Object configurationKey, LintResults results) {
+
+    boolean matches(final Catalog catalog, final Object configurationKey) {
+      return catalogReference.get() == catalog && this.configurationKey.equals(configurationKey);
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(LintResultsCache.class.getName());
+
+  private static final int MAX_CACHED_RESULTS = 8;
+
+  // Most recently used entries are at the end
+  private static final List<CacheEntry> entries = new ArrayList<>();
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  /** Removes all cached lint results, and resets the statistics. */
+  public static void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+    hits.set(0);
+    misses.set(0);
+  }
+
+  /**
+   * Number of lint runs that were served from the cache.
+   *
+   * @return Cache hit count
+   */
+  public static long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Number of lint runs that needed the linters to be run.
+   *
+   * @return Cache miss count
+   */
+  public static long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Removes cached lint results for a catalog, for example when it is no longer in use.
+   *
+   * @param catalog Catalog that was linted
+   */
+  public static void invalidate(final Catalog catalog) {
+    synchronized (entries) {
+      entries.removeIf(
+          entry -> {
+            final Catalog cachedCatalog = entry.catalogReference().get();
+            return cachedCatalog == null || cachedCatalog == catalog;
+          });
+    }
+  }
+
+  /**
+   * Lints the catalog of the execution state, or returns the results of an earlier lint run on the
+   * same catalog with the same linter configuration.
+   *
+   * @param state Execution state, with the catalog and connection source for the linters
+   * @param linterConfigs Linter configuration
+   * @param runAllLinters Whether to run linters that are not explicitly configured
+   * @param maxConnections Maximum number of database connections that can be open at the same time
+   * @return Lint results
+   */
+  public static LintResults lint(
+      final ExecutionState state,
+      final LinterConfigs linterConfigs,
+      final boolean runAllLinters,
+      final int maxConnections) {
+    requireNonNull(state, "No execution state provided");
+    requireNonNull(linterConfigs, "No linter configs provided");
+    final Catalog catalog = state.getCatalog();
+    if (catalog == null) {
+      throw new ExecutionRuntimeException("No catalog provided");
+    }
+
+    final Object configurationKey = linterConfigs.configurationKey(runAllLinters);
+    synchronized (entries) {
+      for (final Iterator<CacheEntry> iterator = entries.iterator(); iterator.hasNext(); ) {
+        final CacheEntry entry = iterator.next();
+        if (entry.matches(catalog, configurationKey)) {
+          // Mark as most recently used
+          iterator.remove();
+          entries.add(entry);
+          hits.incrementAndGet();
+          LOGGER.log(Level.INFO, "Using cached lint results");
+          return entry.results();
+        }
+      }
+    }
+
+    misses.incrementAndGet();
+    final Linters linters = new Linters(linterConfigs, runAllLinters, maxConnections);
+    linters.initialize(LinterRegistry.getRegistry());
+    state.transferState(linters);
+    linters.lint();
+    final LintResults results = linters.getResults();
+
+    synchronized (entries) {
+      entries.removeIf(entry -> entry.catalogReference().get() == null);
+      entries.add(new CacheEntry(new WeakReference<>(catalog), configurationKey, results));
+      while (entries.size() > MAX_CACHED_RESULTS) {
+        entries.remove(0);
+      }
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Cached lint results - lint cache hits %d, misses %d", hits.get(), misses.get()));
+    return results;
+  }
+
+  private LintResultsCache() {
+    // Prevent instantiation
+  }
+}
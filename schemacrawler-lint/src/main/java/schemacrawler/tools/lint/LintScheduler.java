@@ -0,0 +1,210 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Schedules linters for execution. Linters that only work on the catalog, and are based on {@link
+ * BaseLinter}, are run together in a single pass over the catalog, which holds a permit for the
+ * one connection it gives to those linters. Other linters that only work on the catalog are run
+ * fully in parallel. Linters that use a database connection are run on a
+ * bounded pool of workers, so that no more than the configured number of connections are open at
+ * the same time. Each of these linters holds a permit for its connection while it runs, and
+ * linters that can use additional connections take permits from the same limit. Timings for each
+ * linter are logged at the end of the run.
+ */
+final class LintScheduler {
+
+  private record LinterTiming(
+      String linterId, boolean usesConnection, long waitNanos, long runNanos, int queueDepth) {}
+
+  private static final Logger LOGGER = Logger.getLogger(LintScheduler.class.getName());
+
+  static final int DEFAULT_MAX_CONNECTIONS = 4;
+
+  private final int maxConnections;
+  private final Semaphore connectionPermits;
+  private final Queue<LinterTiming> timings;
+
+  LintScheduler(final int maxConnections) {
+    if (maxConnections <= 0) {
+      this.maxConnections = DEFAULT_MAX_CONNECTIONS;
+    } else {
+      this.maxConnections = maxConnections;
+    }
+    connectionPermits = new Semaphore(this.maxConnections);
+    timings = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * Runs all linters, and blocks until they have all completed.
+   *
+   * @param linters Linters to run
+   * @param runLinter Runs a single linter, and is expected to handle its own exceptions
+   * @param runSinglePass Runs catalog linters in a single pass over the catalog, and is expected
+   *     to handle its own exceptions
+   */
+  void run(
+      final List<Linter> linters,
+      final Consumer<Linter> runLinter,
+      final Consumer<List<BaseLinter>> runSinglePass) {
+    requireNonNull(linters, "No linters provided");
+    requireNonNull(runLinter, "No linter runner provided");
+    requireNonNull(runSinglePass, "No single pass linter runner provided");
+
+    final List<BaseLinter> singlePassLinters = new ArrayList<>();
+    final List<Linter> catalogLinters = new ArrayList<>();
+    final List<Linter> connectionLinters = new ArrayList<>();
+    for (final Linter linter : linters) {
+      if (linter.usesConnection()) {
+        connectionLinters.add(linter);
+      } else if (linter instanceof final BaseLinter baseLinter) {
+        singlePassLinters.add(baseLinter);
+      } else {
+        catalogLinters.add(linter);
+      }
+    }
+
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Running %d single pass linters, %d catalog linters, "
+                + "and %d connection linters with up to %d connections",
+            singlePassLinters.size(),
+            catalogLinters.size(),
+            connectionLinters.size(),
+            maxConnections));
+
+    final List<Future<?>> futures = submitConnectionLinters(connectionLinters, runLinter);
+    if (!singlePassLinters.isEmpty()) {
+      final long queued = System.nanoTime();
+      connectionPermits.acquireUninterruptibly();
+      try {
+        final long start = System.nanoTime();
+        runSinglePass.accept(singlePassLinters);
+        timings.add(
+            new LinterTiming(
+                "single pass of %d linters".formatted(singlePassLinters.size()),
+                true,
+                start - queued,
+                System.nanoTime() - start,
+                0));
+      } finally {
+        connectionPermits.release();
+      }
+    }
+    catalogLinters.parallelStream()
+        .forEach(
+            linter -> {
+              final long start = System.nanoTime();
+              runLinter.accept(linter);
+              timings.add(
+                  new LinterTiming(
+                      linter.getLinterId(), false, 0L, System.nanoTime() - start, 0));
+            });
+    awaitConnectionLinters(futures);
+
+    LOGGER.log(Level.INFO, (Supplier<String>) this::getTimingsSummary);
+  }
+
+  private void awaitConnectionLinters(final List<Future<?>> futures) {
+    for (final Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.log(Level.WARNING, "Interrupted while waiting for linters", e);
+        return;
+      } catch (final ExecutionException e) {
+        LOGGER.log(Level.WARNING, "Could not run linter", e.getCause());
+      }
+    }
+  }
+
+  private String getTimingsSummary() {
+    final List<LinterTiming> sortedTimings = new ArrayList<>(timings);
+    sortedTimings.sort(Comparator.comparingLong(LinterTiming::runNanos).reversed());
+
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("Linter timings:%n".formatted());
+    for (final LinterTiming timing : sortedTimings) {
+      buffer.append(
+          "%10d ms run, %10d ms wait, %3d queued %-12s %s%n"
+              .formatted(
+                  TimeUnit.NANOSECONDS.toMillis(timing.runNanos()),
+                  TimeUnit.NANOSECONDS.toMillis(timing.waitNanos()),
+                  timing.queueDepth(),
+                  timing.usesConnection() ? "[connection]" : "[catalog]",
+                  timing.linterId()));
+    }
+    return buffer.toString();
+  }
+
+  private List<Future<?>> submitConnectionLinters(
+      final List<Linter> connectionLinters, final Consumer<Linter> runLinter) {
+    if (connectionLinters.isEmpty()) {
+      return List.of();
+    }
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(maxConnections, connectionLinters.size()));
+    final AtomicInteger queueDepth = new AtomicInteger(connectionLinters.size());
+    final List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (final Linter linter : connectionLinters) {
+        final long queued = System.nanoTime();
+        futures.add(
+            executor.submit(
+                () -> {
+                  connectionPermits.acquireUninterruptibly();
+                  try {
+                    final long start = System.nanoTime();
+                    final int depth = queueDepth.decrementAndGet();
+                    if (linter instanceof final AbstractLinter abstractLinter) {
+                      abstractLinter.setConnectionPermits(connectionPermits);
+                    }
+                    runLinter.accept(linter);
+                    timings.add(
+                        new LinterTiming(
+                            linter.getLinterId(),
+                            true,
+                            start - queued,
+                            System.nanoTime() - start,
+                            depth));
+                  } finally {
+                    connectionPermits.release();
+                  }
+                }));
+      }
+    } finally {
+      // Allow submitted linters to complete, and release threads afterwards
+      executor.shutdown();
+    }
+    return futures;
+  }
+}
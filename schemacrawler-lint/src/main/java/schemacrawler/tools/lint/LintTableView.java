@@ -0,0 +1,75 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+
+/**
+ * View of a table that is shared by all linters in a single lint pass. Inclusion rule results,
+ * and filtered column lists, are computed once for each rule instance, and reused by every linter
+ * that has the same rule. Filtered column lists are unmodifiable, since they are shared.
+ */
+final class LintTableView {
+
+  private final Table table;
+  private final Map<InclusionRule, Boolean> tableRuleResults;
+  private final Map<InclusionRule, List<Column>> columnsByRule;
+  private List<Column> allColumns;
+
+  LintTableView(final Table table) {
+    this.table = requireNonNull(table, "No table provided");
+    tableRuleResults = new IdentityHashMap<>();
+    columnsByRule = new IdentityHashMap<>();
+  }
+
+  List<Column> getColumns(final InclusionRule columnInclusionRule) {
+    requireNonNull(columnInclusionRule, "No column inclusion rule provided");
+    // All include-all rules give the same result, so share one list for them
+    if (columnInclusionRule instanceof IncludeAll) {
+      if (allColumns == null) {
+        allColumns = filterColumns(columnInclusionRule);
+      }
+      return allColumns;
+    }
+    return columnsByRule.computeIfAbsent(columnInclusionRule, this::filterColumns);
+  }
+
+  Table getTable() {
+    return table;
+  }
+
+  boolean includeTable(final InclusionRule tableInclusionRule) {
+    requireNonNull(tableInclusionRule, "No table inclusion rule provided");
+    if (tableInclusionRule instanceof IncludeAll) {
+      return true;
+    }
+    return tableRuleResults.computeIfAbsent(
+        tableInclusionRule, rule -> rule.test(table.getFullName()));
+  }
+
+  private List<Column> filterColumns(final InclusionRule columnInclusionRule) {
+    final List<Column> columns = new ArrayList<>(table.getColumns().size());
+    for (final Column column : table.getColumns()) {
+      if (column != null && columnInclusionRule.test(column.getFullName())) {
+        columns.add(column);
+      }
+    }
+    return Collections.unmodifiableList(columns);
+  }
+}
@@ -11,15 +11,16 @@ package schemacrawler.tools.lint;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.LINTER_COMPARATOR;
 
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
 import schemacrawler.tools.state.AbstractExecutionState;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters extends AbstractExecutionState {
@@ -28,13 +29,28 @@ public final class Linters extends AbstractExecutionState {
 
   private final LinterConfigs linterConfigs;
   private final boolean runAllLinters;
+  private final int maxConnections;
   // Running state
   private List<Linter> linters;
   private LintCollector collector;
 
   public Linters(final LinterConfigs linterConfigs, final boolean runAllLinters) {
+    this(linterConfigs, runAllLinters, LintScheduler.DEFAULT_MAX_CONNECTIONS);
+  }
+
+  /**
+   * Linters to run against a catalog.
+   *
+   * @param linterConfigs Linter configurations
+   * @param runAllLinters Whether to run linters that are not explicitly configured
+   * @param maxConnections Maximum number of database connections that can be open at the same
+   *     time, for linters that use a connection
+   */
+  public Linters(
+      final LinterConfigs linterConfigs, final boolean runAllLinters, final int maxConnections) {
     this.linterConfigs = requireNonNull(linterConfigs, "No linter configs provided");
     this.runAllLinters = runAllLinters;
+    this.maxConnections = maxConnections;
 
     // Initialize running state to empty
     linters = new ArrayList<>();
@@ -42,18 +58,7 @@ public final class Linters extends AbstractExecutionState {
   }
 
   public void dispatch(final LintDispatch lintDispatch) {
-
-    LOGGER.log(Level.INFO, (Supplier<String>) this::getLintSummary);
-
-    if (lintDispatch == null || lintDispatch == LintDispatch.none) {
-      return;
-    }
-
-    if (!linters.isEmpty() && exceedsThreshold()) {
-      LOGGER.log(Level.INFO, "Dispatching lint results");
-      System.err.println(getLintSummary());
-      lintDispatch.dispatch();
-    }
+    getResults().dispatch(lintDispatch);
   }
 
   public boolean exceedsThreshold() {
@@ -66,7 +71,7 @@ public final class Linters extends AbstractExecutionState {
   }
 
   public Lints getLints() {
-    return new Lints(collector.getLints());
+    return new Lints(collector);
   }
 
   public String getLintSummary() {
@@ -94,6 +99,15 @@ public final class Linters extends AbstractExecutionState {
     return buffer.toString();
   }
 
+  /**
+   * Results of the lint run, which do not hold on to the linters.
+   *
+   * @return Lint results
+   */
+  public LintResults getResults() {
+    return new LintResults(getLints(), getLintSummary(), !linters.isEmpty() && exceedsThreshold());
+  }
+
   public void initialize(final LinterInitializer linterInitializer) {
 
     requireNonNull(linterInitializer, "No linter initializer provided");
@@ -158,24 +172,56 @@ public final class Linters extends AbstractExecutionState {
     return linters.size();
   }
 
+  private void runLinter(final Linter linter) {
+    LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+    try {
+      linter.initialize();
+      transferState(linter);
+      linter.execute();
+    } catch (final Exception e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+    }
+  }
+
   private void runLinters() {
+    final LintScheduler scheduler = new LintScheduler(maxConnections);
+    scheduler.run(linters, this::runLinter, this::runSinglePass);
+  }
+
+  private void runSinglePass(final List<BaseLinter> singlePassLinters) {
+    if (!hasCatalog()) {
+      LOGGER.log(Level.WARNING, "No catalog provided, so not running linters");
+      return;
+    }
+    final List<BaseLinter> initializedLinters = new ArrayList<>(singlePassLinters.size());
+    for (final BaseLinter linter : singlePassLinters) {
+      LOGGER.log(
+          Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      try {
+        linter.initialize();
+        transferState(linter);
+        initializedLinters.add(linter);
+      } catch (final Exception e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+      }
+    }
+    if (initializedLinters.isEmpty()) {
+      return;
+    }
 
-    linters.parallelStream()
-        .forEach(
-            linter -> {
-              LOGGER.log(
-                  Level.CONFIG,
-                  new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
-              try {
-                linter.initialize();
-                transferState(linter);
-                linter.execute();
-              } catch (final Exception e) {
-                LOGGER.log(
-                    Level.WARNING,
-                    e,
-                    new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
-              }
-            });
+    // Linters get a connection, as they would when each linter walks the catalog on its own. The
+    // scheduler holds a connection permit for the single pass, so the limit is not exceeded.
+    final DatabaseConnectionSource connectionSource = getConnectionSource();
+    try (final Connection connection = connectionSource == null ? null : connectionSource.get()) {
+      new LintEngine(getCatalog()).lint(initializedLinters, connection);
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not run linters in a single pass", e);
+    }
   }
 }
@@ -8,6 +8,7 @@
 
 package schemacrawler.tools.lint;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.LINT_COMPARATOR;
 
@@ -32,17 +33,36 @@ public final class Lints implements Options, Iterable<Lint<? extends Serializabl
   private final Multimap<NamedObjectKey, Lint<?>> lintsByObject;
 
   public Lints(final Collection<Lint<? extends Serializable>> lints) {
+    this(sortLints(requireNonNull(lints, "No lints provided")));
+  }
+
+  /**
+   * Lints from the collector are already sorted, and are not modified further, so they are not
+   * copied again.
+   *
+   * @param collector Lint collector
+   */
+  Lints(final LintCollector collector) {
+    this(requireNonNull(collector, "No lint collector provided").getLints());
+  }
 
-    requireNonNull(lints, "No lints provided");
-    allLints = new ArrayList<>(lints);
-    allLints.sort(LINT_COMPARATOR);
+  private Lints(final List<Lint<? extends Serializable>> sortedLints) {
+    allLints = unmodifiableList(sortedLints);
 
+    // Lints are added in sorted order, so lints for each object are also sorted
     lintsByObject = new Multimap<>();
-    for (final Lint<?> lint : lints) {
+    for (final Lint<?> lint : allLints) {
       lintsByObject.add(lint.getObjectKey(), lint);
     }
   }
 
+  private static List<Lint<? extends Serializable>> sortLints(
+      final Collection<Lint<? extends Serializable>> lints) {
+    final List<Lint<? extends Serializable>> sortedLints = new ArrayList<>(lints);
+    sortedLints.sort(LINT_COMPARATOR);
+    return sortedLints;
+  }
+
   /**
    * Get all lints for the catalog, sorted in natural sorting order.
    *
@@ -53,16 +73,17 @@ public final class Lints implements Options, Iterable<Lint<? extends Serializabl
   }
 
   /**
-   * Get all lints, sorted in natural sorting order.
+   * Get all lints, sorted in natural sorting order. The returned list is unmodifiable.
    *
    * @return All lints in the report.
    */
   public List<Lint<? extends Serializable>> getLints() {
-    return new ArrayList<>(allLints);
+    return allLints;
   }
 
   /**
-   * Get all lints for a given table, sorted in natural sorting order.
+   * Get all lints for a given table, sorted in natural sorting order. The returned list is
+   * unmodifiable.
    *
    * @return All lints for a named object.
    */
@@ -82,7 +103,7 @@ public final class Lints implements Options, Iterable<Lint<? extends Serializabl
 
   @Override
   public Iterator<Lint<? extends Serializable>> iterator() {
-    return getLints().iterator();
+    return allLints.iterator();
   }
 
   /**
@@ -109,8 +130,6 @@ public final class Lints implements Options, Iterable<Lint<? extends Serializabl
       return List.of();
     }
 
-    final List<Lint<?>> lints = new ArrayList<>(lintsForKey);
-    lints.sort(LINT_COMPARATOR);
-    return lints;
+    return unmodifiableList(lintsForKey);
   }
 }
@@ -15,6 +15,8 @@ import java.io.Serial;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionRule;
 import schemacrawler.tools.command.CommandOptions;
@@ -24,10 +26,29 @@ import schemacrawler.tools.options.ConfigUtility;
 
 public final class LinterConfig implements CommandOptions, Comparable<LinterConfig> {
 
+  /**
+   * Snapshot of the settings of a linter that can change the lints that it finds, compared by
+   * value.
+   */
+  record ConfigurationKey(
+      String linterId,
+      boolean runLinter,
+      LintSeverity severity,
+      int threshold,
+      String tableInclusionPattern,
+      String tableExclusionPattern,
+      String columnInclusionPattern,
+      String columnExclusionPattern,
+      Map<String, Object> parameters) {}
+
   @Serial private static final long serialVersionUID = 83079182550531365L;
 
+  // Settings that only change how a linter runs, and not the lints that it finds
+  private static final Set<String> EXECUTION_SETTINGS = Set.of("max-threads", "batch-size");
+
   private final String linterId;
   private final Map<String, Object> config;
+  private final Map<String, Object> parameters;
   private final boolean runLinter;
   private final LintSeverity severity;
   private final int threshold;
@@ -67,6 +88,7 @@ public final class LinterConfig implements CommandOptions, Comparable<LinterConf
     this.columnInclusionPattern = columnInclusionPattern;
     this.columnExclusionPattern = columnExclusionPattern;
     config = configMap == null ? new HashMap<>() : new HashMap<>(configMap);
+    parameters = new HashMap<>(config);
   }
 
   @Override
@@ -144,6 +166,41 @@ public final class LinterConfig implements CommandOptions, Comparable<LinterConf
     return linterId;
   }
 
+  /**
+   * Snapshot of the linter configuration, including parameters, unlike {@link #equals(Object)}.
+   * Settings from the shared configuration context, and settings that only change how the linter
+   * runs, such as the number of threads, are left out.
+   *
+   * @return Linter configuration snapshot
+   */
+  ConfigurationKey configurationKey() {
+    final Map<String, Object> lintParameters = new TreeMap<>(parameters);
+    lintParameters.keySet().removeAll(EXECUTION_SETTINGS);
+    return new ConfigurationKey(
+        linterId,
+        runLinter,
+        severity,
+        threshold,
+        tableInclusionPattern,
+        tableExclusionPattern,
+        columnInclusionPattern,
+        columnExclusionPattern,
+        lintParameters);
+  }
+
+  /**
+   * Whether the linter configuration only has default settings, apart from settings that only
+   * change how the linter runs, so that the linter finds the same lints as without a configuration.
+   *
+   * @return True if the linter configuration has only default settings
+   */
+  boolean isDefaultConfiguration() {
+    final ConfigurationKey defaultConfigurationKey =
+        new ConfigurationKey(
+            linterId, true, null, Integer.MAX_VALUE, null, null, null, null, Map.of());
+    return configurationKey().equals(defaultConfigurationKey);
+  }
+
   void setContext(final Map<String, Object> config) {
     if (config != null) {
       // Shade with the linter config
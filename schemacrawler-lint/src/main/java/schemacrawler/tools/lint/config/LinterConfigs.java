@@ -11,6 +11,7 @@ package schemacrawler.tools.lint.config;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,28 @@ public class LinterConfigs implements Iterable<LinterConfig> {
     }
   }
 
+  /**
+   * Snapshot of the configuration of all linters, compared by value, which changes whenever the
+   * linters could produce different lints. The shared configuration context is left out, since it
+   * holds the settings of the command that runs the linters. Linters that are configured with only
+   * default settings are left out when all linters are run, since they find the same lints as they
+   * would without a configuration.
+   *
+   * @param runAllLinters Whether linters that are not explicitly configured are run
+   * @return Snapshot of the linter configurations
+   */
+  public Object configurationKey(final boolean runAllLinters) {
+    final List<LinterConfig.ConfigurationKey> configurationKeys = new ArrayList<>();
+    for (final LinterConfig linterConfig : linterConfigs) {
+      if (runAllLinters && linterConfig.isDefaultConfiguration()) {
+        continue;
+      }
+      configurationKeys.add(linterConfig.configurationKey());
+    }
+    configurationKeys.sort(Comparator.comparing(LinterConfig.ConfigurationKey::linterId));
+    return List.of(runAllLinters, configurationKeys);
+  }
+
   @Override
   public Iterator<LinterConfig> iterator() {
     return linterConfigs.iterator();
@@ -9,23 +9,35 @@
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.loader.utility.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.utility.TableRowCountsUtility.hasRowCount;
+import static us.fatehi.utility.Utility.isBlank;
 
 import java.io.Serial;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Identifiers;
 import schemacrawler.schema.IdentifiersBuilder;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Query;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.BaseLinterProvider;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.tools.lint.Linter;
+import schemacrawler.tools.options.Config;
 import us.fatehi.utility.property.PropertyName;
 import us.fatehi.utility.string.StringFormat;
 
@@ -43,14 +55,35 @@ public class LinterProviderTableEmpty extends BaseLinterProvider {
   }
 }
 
+/**
+ * Finds empty tables. Row counts that were already loaded into the catalog are used as they are.
+ * Other tables are probed for a single row, with SQL that can be configured for the database, so
+ * that no table is scanned in full. Tables are probed in batches, and tables in a batch can be
+ * probed in parallel on additional connections, as long as they are within the limit on
+ * connections shared by all linters.
+ */
 class LinterTableEmpty extends BaseLinter {
 
   private static final Logger LOGGER = Logger.getLogger(LinterTableEmpty.class.getName());
 
+  private static final int DEFAULT_BATCH_SIZE = 50;
+  private static final String DEFAULT_SQL = "SELECT 1 FROM ${table}";
+
+  private int batchSize;
+  private int maxThreads;
+  private String sql;
+  // Running state
+  private Identifiers identifiers;
+  private List<Table> batch;
+
   public LinterTableEmpty(final PropertyName propertyName, final LintCollector lintCollector) {
     super(propertyName, lintCollector);
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+
+    batchSize = DEFAULT_BATCH_SIZE;
+    maxThreads = 1;
+    sql = DEFAULT_SQL;
   }
 
   @Override
@@ -63,21 +96,161 @@ class LinterTableEmpty extends BaseLinter {
     return true;
   }
 
+  @Override
+  protected void configure(final Config config) {
+    requireNonNull(config, "No configuration provided");
+
+    batchSize = Math.max(1, config.getIntegerValue("batch-size", DEFAULT_BATCH_SIZE));
+    maxThreads = Math.max(1, config.getIntegerValue("max-threads", 1));
+    sql = config.getStringValue("sql", DEFAULT_SQL);
+    if (isBlank(sql)) {
+      sql = DEFAULT_SQL;
+    }
+  }
+
+  @Override
+  protected void end(final Connection connection) {
+    if (batch != null) {
+      lintBatch(connection);
+    }
+    identifiers = null;
+    batch = null;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try {
+    if (hasRowCount(table)) {
+      // Use row counts that were loaded with the catalog
+      if (getRowCount(table) == 0) {
+        addTableLint(table, getSummary());
+      }
+      return;
+    }
+
+    if (batch == null) {
+      // Linter was not started, so probe the table immediately
       final Identifiers identifiers =
           IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0) {
+      if (isEmpty(table, connection, identifiers)) {
         addTableLint(table, getSummary());
       }
+      return;
+    }
+
+    batch.add(table);
+    if (batch.size() >= batchSize) {
+      lintBatch(connection);
+    }
+  }
+
+  @Override
+  protected void start(final Connection connection) {
+    requireNonNull(connection, "No connection provided");
+
+    identifiers = IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+    batch = new ArrayList<>(batchSize);
+  }
+
+  private boolean isEmpty(
+      final Table table, final Connection connection, final Identifiers identifiers) {
+    final String probeSql = sql.replace("${table}", identifiers.quoteFullName(table));
+    try (final Statement statement = connection.createStatement()) {
+      // Only one row is needed, so the database can stop as soon as it finds a row
+      statement.setMaxRows(1);
+      try (final ResultSet results = statement.executeQuery(probeSql)) {
+        return !results.next();
+      }
     } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table, ", table));
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not check if table is empty <%s>", table));
+      return false;
+    }
+  }
+
+  private void lintBatch(final Connection connection) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final List<Table> tables = new ArrayList<>(batch);
+    batch.clear();
+
+    final Set<Table> emptyTables;
+    if (maxThreads > 1 && tables.size() > 1) {
+      emptyTables = probeEachInParallel(tables, connection);
+    } else {
+      emptyTables = probeEach(tables, connection);
+    }
+
+    // Add lints in the order that the tables were linted
+    for (final Table table : tables) {
+      if (emptyTables.contains(table)) {
+        addTableLint(table, getSummary());
+      }
+    }
+  }
+
+  private Set<Table> probeEach(final List<Table> tables, final Connection connection) {
+    final Set<Table> emptyTables = new HashSet<>();
+    for (final Table table : tables) {
+      if (isEmpty(table, connection, identifiers)) {
+        emptyTables.add(table);
+      }
+    }
+    return emptyTables;
+  }
+
+  private Set<Table> probeEachInParallel(final List<Table> tables, final Connection connection) {
+    // The linter's own connection is used as well, so only additional connections are acquired,
+    // from the limit on connections shared with other linters
+    final int additionalConnections =
+        acquireAdditionalConnections(Math.min(maxThreads, tables.size()) - 1);
+    try {
+      if (additionalConnections == 0) {
+        return probeEach(tables, connection);
+      }
+
+      final int threads = additionalConnections + 1;
+      final List<List<Table>> partitions = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        partitions.add(new ArrayList<>());
+      }
+      for (int i = 0; i < tables.size(); i++) {
+        partitions.get(i % threads).add(tables.get(i));
+      }
+
+      final Set<Table> emptyTables = new HashSet<>();
+      final ExecutorService executor = Executors.newFixedThreadPool(additionalConnections);
+      try {
+        final List<Future<Set<Table>>> futures = new ArrayList<>();
+        for (final List<Table> partition : partitions.subList(1, threads)) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    // Each additional worker uses its own connection
+                    try (final Connection workerConnection = getConnection()) {
+                      return probeEach(partition, workerConnection);
+                    }
+                  }));
+        }
+        emptyTables.addAll(probeEach(partitions.get(0), connection));
+        for (final Future<Set<Table>> future : futures) {
+          emptyTables.addAll(future.get());
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.log(Level.WARNING, "Interrupted while checking for empty tables", e);
+      } catch (final ExecutionException e) {
+        LOGGER.log(Level.WARNING, "Could not check for empty tables", e.getCause());
+      } finally {
+        executor.shutdownNow();
+      }
+      return emptyTables;
+    } finally {
+      releaseAdditionalConnections(additionalConnections);
     }
   }
 }
@@ -15,13 +15,22 @@ import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.io.Serial;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import schemacrawler.schema.Table;
 import schemacrawler.schema.Identifiers;
 import schemacrawler.schema.IdentifiersBuilder;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.exceptions.ConfigurationException;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.BaseLinterProvider;
 import schemacrawler.tools.lint.LintCollector;
@@ -44,12 +53,69 @@ public class LinterProviderTableSql extends BaseLinterProvider {
   }
 }
 
+/**
+ * Runs SQL to find table lints. If <code>all-tables-sql</code> is configured, it is run only once,
+ * and needs to return rows of schema name, table name and lint value for all tables, optionally
+ * preceded by the catalog name. Otherwise, or if that SQL fails, <code>sql</code> is run for each
+ * table. SQL that uses <code>${table}</code> is expanded for each table. If the
+ * <code>bind-parameters</code> are configured, the SQL is prepared once instead, and the listed
+ * names of each table are bound to its parameters, in order.
+ */
 class LinterTableSql extends BaseLinter {
 
+  /** Part of the name of a table, that can be bound to a SQL parameter. */
+  enum BindParameter {
+    catalog,
+    schema,
+    table;
+
+    String valueFor(final Table table) {
+      return switch (this) {
+        case catalog -> table.getSchema().getCatalogName();
+        case schema -> table.getSchema().getName();
+        case table -> table.getName();
+      };
+    }
+  }
+
+  /** Full name of a table, with the names of its catalog and schema, which may be null. */
+  private record TableName(String catalogName, String schemaName, String tableName) {
+
+    static TableName of(final Table table) {
+      return new TableName(
+          table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName());
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(LinterTableSql.class.getName());
 
+  static List<BindParameter> parseBindParameters(final String bindParameters) {
+    final List<BindParameter> parameters = new ArrayList<>();
+    if (isBlank(bindParameters)) {
+      return parameters;
+    }
+    for (final String bindParameter : bindParameters.split(",")) {
+      try {
+        parameters.add(BindParameter.valueOf(bindParameter.trim()));
+      } catch (final IllegalArgumentException e) {
+        throw new ConfigurationException(
+            "Unknown bind parameter <%s>, expected catalog, schema or table"
+                .formatted(bindParameter.trim()),
+            e);
+      }
+    }
+    return parameters;
+  }
+
   private String message;
   private String sql;
+  private String allTablesSql;
+  private List<BindParameter> bindParameters;
+  // Running state
+  private Identifiers identifiers;
+  private PreparedStatement preparedStatement;
+  private Map<TableName, Object> allTablesResults;
+  private boolean allTablesResultsHaveCatalog;
 
   LinterTableSql(final PropertyName propertyName, final LintCollector lintCollector) {
     super(propertyName, lintCollector);
@@ -72,7 +138,11 @@ class LinterTableSql extends BaseLinter {
     requireNotBlank(message, "No message provided");
 
     sql = config.getStringValue("sql", "");
-    requireNotBlank(sql, "No SQL provided");
+    allTablesSql = config.getStringValue("all-tables-sql", "");
+    if (isBlank(allTablesSql)) {
+      requireNotBlank(sql, "No SQL provided");
+    }
+    bindParameters = parseBindParameters(config.getStringValue("bind-parameters", ""));
   }
 
   @Override
@@ -80,20 +150,51 @@ class LinterTableSql extends BaseLinter {
     return true;
   }
 
+  @Override
+  protected void end(final Connection connection) {
+    if (preparedStatement != null) {
+      try {
+        preparedStatement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.FINE, "Could not close prepared statement", e);
+      }
+    }
+    identifiers = null;
+    preparedStatement = null;
+    allTablesResults = null;
+    allTablesResultsHaveCatalog = false;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
+    requireNonNull(table, "No table provided");
+
+    if (allTablesResults != null) {
+      lintFromAllTablesResults(table);
+      return;
+    }
+
     if (isBlank(sql)) {
       return;
     }
 
-    requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query(message, sql);
     try {
-      final Identifiers identifiers =
-          IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
+      final Object queryResult;
+      if (preparedStatement != null) {
+        queryResult = executePrepared(table);
+      } else {
+        final Identifiers identifiers;
+        if (this.identifiers == null) {
+          // Linter was not started
+          identifiers = IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+        } else {
+          identifiers = this.identifiers;
+        }
+        final Query query = new Query(message, sql);
+        queryResult = executeForScalar(query, connection, table, identifiers);
+      }
       if (queryResult != null) {
         addTableLint(table, getSummary() + " " + queryResult);
       }
@@ -104,4 +205,93 @@ class LinterTableSql extends BaseLinter {
           new StringFormat("Could not execute SQL for table lints, for table", table));
     }
   }
+
+  @Override
+  protected void start(final Connection connection) {
+    requireNonNull(connection, "No connection provided");
+
+    if (!isBlank(allTablesSql)) {
+      try {
+        executeForAllTables(connection);
+        return;
+      } catch (final SQLException e) {
+        if (isBlank(sql)) {
+          throw new DatabaseAccessException(
+              "Could not execute SQL for table lints%n%s".formatted(allTablesSql), e);
+        }
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat(
+                "Could not execute SQL for table lints, running SQL for each table instead <%s>",
+                allTablesSql));
+      }
+    }
+
+    identifiers = IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+    if (!bindParameters.isEmpty()) {
+      try {
+        preparedStatement = connection.prepareStatement(sql);
+      } catch (final SQLException e) {
+        // SQL with parameters cannot be run for each table without being prepared
+        throw new DatabaseAccessException(
+            "Could not prepare SQL for table lints%n%s".formatted(sql), e);
+      }
+    }
+  }
+
+  private void executeForAllTables(final Connection connection) throws SQLException {
+    // Results are kept for included and excluded tables alike, since inclusion rules
+    // are applied when tables are linted
+    final Map<TableName, Object> results = new HashMap<>();
+    final boolean hasCatalog;
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(allTablesSql)) {
+      final int columnCount = resultSet.getMetaData().getColumnCount();
+      if (columnCount != 3 && columnCount != 4) {
+        throw new SQLException(
+            "Expected 3 or 4 columns in results, but found %d".formatted(columnCount));
+      }
+      // The catalog name is matched only when it is returned as the first column
+      hasCatalog = columnCount == 4;
+      final int offset = hasCatalog ? 1 : 0;
+      while (resultSet.next()) {
+        final TableName tableName =
+            new TableName(
+                hasCatalog ? resultSet.getString(1) : null,
+                resultSet.getString(1 + offset),
+                resultSet.getString(2 + offset));
+        final Object value = resultSet.getObject(3 + offset);
+        if (value != null) {
+          results.putIfAbsent(tableName, value);
+        }
+      }
+    }
+    allTablesResults = results;
+    allTablesResultsHaveCatalog = hasCatalog;
+  }
+
+  private Object executePrepared(final Table table) throws SQLException {
+    for (int i = 0; i < bindParameters.size(); i++) {
+      preparedStatement.setString(i + 1, bindParameters.get(i).valueFor(table));
+    }
+    try (final ResultSet results = preparedStatement.executeQuery()) {
+      if (results.next()) {
+        return results.getObject(1);
+      }
+      return null;
+    }
+  }
+
+  private void lintFromAllTablesResults(final Table table) {
+    final TableName tableName = TableName.of(table);
+    final Object value =
+        allTablesResults.get(
+            allTablesResultsHaveCatalog
+                ? tableName
+                : new TableName(null, tableName.schemaName(), tableName.tableName()));
+    if (value != null) {
+      addTableLint(table, getSummary() + " " + value);
+    }
+  }
 }
@@ -29,6 +29,7 @@ public class LintOptionsBuilderTest {
             .withLintDispatch(lintDispatch)
             .withLinterConfigs(linterConfigs)
             .runAllLinters(false)
+            .withMaxLintConnections(2)
             .toConfig();
 
     // Rebuild options
@@ -36,7 +37,8 @@ public class LintOptionsBuilderTest {
     assertThat(lintOptions2.getLintDispatch(), is(lintDispatch));
     assertThat(lintOptions2.getLinterConfigs(), is(linterConfigs));
     assertThat(lintOptions2.isRunAllLinters(), is(false));
-    assertThat(lintOptions2.getConfig().size(), is(13));
+    assertThat(lintOptions2.getMaxLintConnections(), is(2));
+    assertThat(lintOptions2.getConfig().size(), is(14));
   }
 
   @Test
@@ -55,14 +57,14 @@ public class LintOptionsBuilderTest {
     assertThat(lintOptions.getLintDispatch(), is(lintDispatch));
     assertThat(lintOptions.getLinterConfigs(), is(linterConfigs));
     assertThat(lintOptions.isRunAllLinters(), is(false));
-    assertThat(lintOptions.getConfig().size(), is(13));
+    assertThat(lintOptions.getConfig().size(), is(14));
 
     // Rebuild options
     final LintOptions lintOptions2 = LintOptionsBuilder.builder().fromOptions(lintOptions).build();
     assertThat(lintOptions2.getLintDispatch(), is(lintDispatch));
     assertThat(lintOptions2.getLinterConfigs(), is(linterConfigs));
     assertThat(lintOptions2.isRunAllLinters(), is(false));
-    assertThat(lintOptions2.getConfig().size(), is(13));
+    assertThat(lintOptions2.getConfig().size(), is(14));
   }
 
   @Test
@@ -73,6 +75,7 @@ public class LintOptionsBuilderTest {
     assertThat(lintOptions.getLintDispatch(), is(LintDispatch.none));
     assertThat(lintOptions.getLinterConfigs(), is(""));
     assertThat(lintOptions.isRunAllLinters(), is(true));
-    assertThat(lintOptions.getConfig().size(), is(13));
+    assertThat(lintOptions.getMaxLintConnections(), is(4));
+    assertThat(lintOptions.getConfig().size(), is(14));
   }
 }
@@ -0,0 +1,166 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.lint.LintResults;
+import schemacrawler.tools.lint.LintResultsCache;
+import schemacrawler.tools.lint.LintSeverity;
+import schemacrawler.tools.lint.config.LinterConfig;
+import schemacrawler.tools.lint.config.LinterConfigs;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.ConfigUtility;
+import schemacrawler.tools.state.AbstractExecutionState;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class LintResultsCacheTest {
+
+  private static LinterConfigs linterConfigs(final String badColumnNames) {
+    return linterConfigs(badColumnNames, ConfigUtility.newConfig());
+  }
+
+  private static LinterConfigs linterConfigs(final String badColumnNames, final Config context) {
+    final LinterConfigs linterConfigs = new LinterConfigs(context);
+    linterConfigs.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            Map.of("bad-column-names", badColumnNames)));
+    return linterConfigs;
+  }
+
+  private static AbstractExecutionState loadState(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"))
+                    .toOptions());
+    final Catalog catalog =
+        getCatalog(
+            connectionSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptions,
+            ConfigUtility.newConfig());
+
+    final AbstractExecutionState state = new AbstractExecutionState() {};
+    state.setCatalog(catalog);
+    state.setConnectionSource(connectionSource);
+    return state;
+  }
+
+  @BeforeEach
+  public void clearCache() {
+    LintResultsCache.clear();
+  }
+
+  @Test
+  public void lintResultsCache(final DatabaseConnectionSource connectionSource) throws Exception {
+    final AbstractExecutionState state = loadState(connectionSource);
+
+    final LintResults lintResults =
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY"), true, 1);
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+    assertThat(LintResultsCache.getHitCount(), is(0L));
+
+    // Same catalog, and same linter configuration
+    assertThat(
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY"), true, 1),
+        is(sameInstance(lintResults)));
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+    assertThat(LintResultsCache.getHitCount(), is(1L));
+
+    // Different linter configuration
+    assertThat(
+        LintResultsCache.lint(state, linterConfigs(".*\\.ID"), true, 1),
+        is(not(sameInstance(lintResults))));
+    assertThat(LintResultsCache.getMissCount(), is(2L));
+
+    // Same catalog, loaded again
+    final AbstractExecutionState reloadedState = loadState(connectionSource);
+    final LintResults reloadedLintResults =
+        LintResultsCache.lint(reloadedState, linterConfigs(".*\\.COUNTRY"), true, 1);
+    assertThat(reloadedLintResults, is(not(sameInstance(lintResults))));
+    assertThat(reloadedLintResults.getLints().size(), is(lintResults.getLints().size()));
+    assertThat(reloadedLintResults.getLintSummary(), is(lintResults.getLintSummary()));
+    assertThat(LintResultsCache.getMissCount(), is(3L));
+
+    // Invalidated catalog
+    LintResultsCache.invalidate(state.getCatalog());
+    assertThat(
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY"), true, 1),
+        is(not(sameInstance(lintResults))));
+    assertThat(LintResultsCache.getMissCount(), is(4L));
+    assertThat(LintResultsCache.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void lintResultsCacheIgnoresExecutionSettings(
+      final DatabaseConnectionSource connectionSource) throws Exception {
+    final AbstractExecutionState state = loadState(connectionSource);
+
+    final LintResults lintResults =
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY"), true, 1);
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+
+    // Different number of connections, and a different shared configuration context
+    final Config context = ConfigUtility.newConfig();
+    context.put("schemacrawler.lint.max_lint_connections", 2);
+    assertThat(
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY", context), true, 2),
+        is(sameInstance(lintResults)));
+
+    // Linter configured with only settings for how it runs, which is the same as not configuring
+    // it when all linters are run
+    final LinterConfigs withThreads = linterConfigs(".*\\.COUNTRY");
+    withThreads.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableEmpty",
+            true,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            Map.of("max-threads", 4)));
+    assertThat(LintResultsCache.lint(state, withThreads, true, 1), is(sameInstance(lintResults)));
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+    assertThat(LintResultsCache.getHitCount(), is(2L));
+
+    // Not running all linters
+    assertThat(
+        LintResultsCache.lint(state, linterConfigs(".*\\.COUNTRY"), false, 1),
+        is(not(sameInstance(lintResults))));
+    assertThat(LintResultsCache.getMissCount(), is(2L));
+  }
+}
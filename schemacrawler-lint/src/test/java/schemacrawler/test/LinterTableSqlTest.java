@@ -0,0 +1,196 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ConfigurationException;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.lint.Lint;
+import schemacrawler.tools.lint.LinterRegistry;
+import schemacrawler.tools.lint.Linters;
+import schemacrawler.tools.lint.config.LinterConfig;
+import schemacrawler.tools.lint.config.LinterConfigs;
+import schemacrawler.tools.options.ConfigUtility;
+import schemacrawler.tools.state.AbstractExecutionState;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class LinterTableSqlTest {
+
+  private static final String LINTER_TABLE_SQL = "schemacrawler.tools.linter.LinterTableSql";
+
+  private static Linters linters(final Map<String, Object> config) {
+    final Map<String, Object> linterConfig = new HashMap<>(config);
+    linterConfig.put("message", "SQL lint");
+    final LinterConfigs linterConfigs = new LinterConfigs(ConfigUtility.newConfig());
+    linterConfigs.add(
+        new LinterConfig(LINTER_TABLE_SQL, true, null, null, null, null, null, null, linterConfig));
+    return new Linters(linterConfigs, false, 1);
+  }
+
+  private static List<String> lintedObjects(
+      final DatabaseConnectionSource connectionSource, final Map<String, Object> config)
+      throws Exception {
+    final Linters linters = linters(config);
+    linters.initialize(LinterRegistry.getRegistry());
+    loadState(connectionSource).transferState(linters);
+    linters.lint();
+
+    final List<String> lintedObjects = new ArrayList<>();
+    for (final Lint<? extends Serializable> lint : linters.getLints()) {
+      lintedObjects.add(lint.getObjectName() + ": " + lint.getMessage());
+    }
+    return lintedObjects;
+  }
+
+  private static AbstractExecutionState loadState(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                    .toOptions());
+    final Catalog catalog =
+        getCatalog(
+            connectionSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptions,
+            ConfigUtility.newConfig());
+
+    final AbstractExecutionState state = new AbstractExecutionState() {};
+    state.setCatalog(catalog);
+    state.setConnectionSource(connectionSource);
+    return state;
+  }
+
+  @Test
+  public void allTablesSql(final DatabaseConnectionSource connectionSource) throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "all-tables-sql",
+                """
+                SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, 'all tables'
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_NAME = 'AUTHORS'
+                """));
+    assertThat(lintedObjects, contains(endsWith("AUTHORS: SQL lint all tables")));
+  }
+
+  @Test
+  public void allTablesSqlInOtherCatalog(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "all-tables-sql",
+                """
+                SELECT 'OTHER', TABLE_SCHEMA, TABLE_NAME, 'all tables'
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_NAME = 'AUTHORS'
+                """));
+    assertThat(lintedObjects, is(empty()));
+  }
+
+  @Test
+  public void allTablesSqlFallsBackToSql(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "all-tables-sql",
+                "SELECT TABLE_SCHEMA, TABLE_NAME, 'all tables' FROM NO_SUCH_TABLE",
+                "sql",
+                """
+                SELECT 'each table' FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND TABLE_NAME = 'AUTHORS'
+                """,
+                "bind-parameters",
+                "schema, table"));
+    assertThat(lintedObjects, contains(endsWith("AUTHORS: SQL lint each table")));
+  }
+
+  @Test
+  public void allTablesSqlWithoutCatalog(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "all-tables-sql",
+                """
+                SELECT TABLE_SCHEMA, TABLE_NAME, 'all tables'
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_NAME = 'AUTHORS'
+                """));
+    assertThat(lintedObjects, contains(endsWith("AUTHORS: SQL lint all tables")));
+  }
+
+  @Test
+  public void preparedSql(final DatabaseConnectionSource connectionSource) throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "sql",
+                """
+                SELECT 'prepared' FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_CATALOG = ? AND TABLE_SCHEMA = ? AND TABLE_NAME = ?
+                AND TABLE_NAME = 'AUTHORS'
+                """,
+                "bind-parameters",
+                "catalog, schema, table"));
+    assertThat(lintedObjects, contains(endsWith("AUTHORS: SQL lint prepared")));
+  }
+
+  @Test
+  public void preparedSqlThatCannotBePrepared(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final List<String> lintedObjects =
+        lintedObjects(
+            connectionSource,
+            Map.of(
+                "sql",
+                "SELECT 'prepared' FROM NO_SUCH_TABLE WHERE TABLE_NAME = ?",
+                "bind-parameters",
+                "table"));
+    assertThat(lintedObjects, is(empty()));
+  }
+
+  @Test
+  public void unknownBindParameter() {
+    final Linters linters =
+        linters(Map.of("sql", "SELECT 1 FROM ${table}", "bind-parameters", "schema, view"));
+    assertThrows(
+        ConfigurationException.class, () -> linters.initialize(LinterRegistry.getRegistry()));
+  }
+}
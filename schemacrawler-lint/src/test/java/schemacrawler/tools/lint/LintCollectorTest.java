@@ -0,0 +1,91 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.lint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.tools.lint.LintUtility.LINT_COMPARATOR;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.test.utility.crawl.LightTable;
+
+public class LintCollectorTest {
+
+  @Test
+  public void concurrentLints() {
+    final LintCollector collector = new LintCollector();
+
+    final List<LightTable> tables = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      tables.add(new LightTable(new SchemaReference(), "TABLE_%03d".formatted(i)));
+    }
+
+    // Each of 4 linters adds lints for all tables, twice
+    IntStream.range(0, 8)
+        .parallel()
+        .forEach(
+            i -> {
+              final String linterId = "linter-" + i % 4;
+              for (final LightTable table : tables) {
+                collector.addLint(table, newLint(linterId, table));
+              }
+            });
+
+    final List<Lint<? extends Serializable>> lints = collector.getLints();
+    assertThat(lints.size(), is(400));
+
+    final List<Lint<? extends Serializable>> sortedLints = new ArrayList<>(lints);
+    sortedLints.sort(LINT_COMPARATOR);
+    assertThat(lints, is(sortedLints));
+
+    assertThat(new Lints(collector).size(), is(400));
+  }
+
+  @Test
+  public void lintsAreUnmodifiable() {
+    final LintCollector collector = new LintCollector();
+    final LightTable table = new LightTable(new SchemaReference(), "TABLE");
+    collector.addLint(table, newLint("linter", table));
+
+    final Lints lints = new Lints(collector);
+    assertThat(lints.size(), is(1));
+    assertThat(lints.getLints(table).size(), is(1));
+
+    assertThrows(UnsupportedOperationException.class, () -> lints.getLints().clear());
+    assertThrows(UnsupportedOperationException.class, () -> collector.getLints().clear());
+  }
+
+  @Test
+  public void mismatchedObject() {
+    final LintCollector collector = new LintCollector();
+    final LightTable table1 = new LightTable(new SchemaReference(), "TABLE1");
+    final LightTable table2 = new LightTable(new SchemaReference(), "TABLE2");
+
+    collector.addLint(table2, newLint("linter", table1));
+
+    assertThat(collector.getLints().size(), is(0));
+  }
+
+  private Lint<String> newLint(final String linterId, final LightTable table) {
+    return new Lint<>(
+        linterId,
+        linterId + "-instance",
+        LintObjectType.table,
+        table,
+        LintSeverity.medium,
+        "test lint",
+        table.getName());
+  }
+}
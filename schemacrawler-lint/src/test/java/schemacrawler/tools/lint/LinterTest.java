@@ -12,6 +12,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
@@ -25,6 +26,8 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -34,6 +37,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.LinterProviderForTest;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.linter.LinterProviderCatalogSql;
 import schemacrawler.tools.linter.LinterProviderTableEmpty;
 import schemacrawler.tools.options.ConfigUtility;
@@ -60,6 +64,21 @@ public class LinterTest {
     assertThat(catalog.getSchemas().size(), is(6));
   }
 
+  @Test
+  public void additionalConnections() {
+    final AbstractLinter linter =
+        (AbstractLinter) new LinterProviderTableEmpty().newLinter(new LintCollector());
+    // Not run by the lint scheduler
+    assertThat(linter.acquireAdditionalConnections(3), is(0));
+
+    final Semaphore connectionPermits = new Semaphore(2);
+    linter.setConnectionPermits(connectionPermits);
+    assertThat(linter.acquireAdditionalConnections(3), is(2));
+    assertThat(linter.acquireAdditionalConnections(1), is(0));
+    linter.releaseAdditionalConnections(2);
+    assertThat(connectionPermits.availablePermits(), is(2));
+  }
+
   @Test
   public void linterComparator(final DatabaseConnectionSource connectionSource) {
 
@@ -101,6 +120,32 @@ public class LinterTest {
     assertThat(((BaseLinter) linter).getColumns(null), is(empty()));
   }
 
+  @Test
+  public void linterCoverageWithSql(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+
+    final LintCollector collector = new LintCollector();
+    final Linter linter = new LinterProviderTableEmpty().newLinter(collector);
+    linter.configure(
+        new LinterConfig(
+            linter.getLinterId(),
+            true,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            Map.of("sql", "SELECT 1 FROM ${table} WHERE 1 = 0", "max-threads", 2)));
+    linter.initialize();
+    linter.setCatalog(catalog);
+    linter.setConnectionSource(connectionSource);
+    linter.execute();
+
+    // The probe finds no rows in any table, so every table is reported as empty
+    assertThat(linter.getLintCount(), is(greaterThan(10)));
+  }
+
   @Test
   public void linterForCrawlInfo(final DatabaseConnectionSource connectionSource) throws Exception {
 
@@ -10,20 +10,26 @@ package schemacrawler.tools.lint;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
@@ -61,6 +67,7 @@ import schemacrawler.tools.linter.LinterProviderTableWithSingleColumn;
 import schemacrawler.tools.linter.LinterProviderTooManyLobs;
 import us.fatehi.test.utility.TestObjectUtility;
 import us.fatehi.test.utility.TestObjectUtility.Results;
+import us.fatehi.utility.property.PropertyName;
 
 @TestInstance(Lifecycle.PER_CLASS)
 public class LintersTest {
@@ -271,6 +278,148 @@ public class LintersTest {
     assertThat(lintCollector.getLints().iterator().next().getMessage(), is("redundant index"));
   }
 
+  @Test
+  public void testSinglePass() {
+    final LintCollector lintCollector = new LintCollector();
+    final List<BaseLinter> linters =
+        List.of(
+            (BaseLinter) new LinterProviderColumnTypes().newLinter(lintCollector),
+            (BaseLinter) new LinterProviderTableWithSingleColumn().newLinter(lintCollector),
+            (BaseLinter) new LinterProviderTooManyLobs().newLinter(lintCollector));
+
+    final LightTable table1 = new LightTable("TABLE1");
+    table1.addDataColumn("COL", "TYPE1");
+    final LightTable table2 = new LightTable("TABLE2");
+    table2.addDataColumn("COL", "TYPE2");
+    table2.addDataColumn("COL1", "CLOB");
+    table2.addDataColumn("COL2", "BLOB");
+
+    final Catalog catalog = LightCatalogUtility.lightCatalog(table1, table2);
+    for (final BaseLinter linter : linters) {
+      linter.configure(linterConfig);
+      linter.setCatalog(catalog);
+    }
+
+    new LintEngine(catalog).lint(linters, connection);
+
+    assertThat(lintCollector.getLints().size(), is(3));
+    assertThat(
+        lintCollector.getLints(),
+        containsInAnyOrder(
+            hasProperty("message", is("column with same name but different data types")),
+            hasProperty("message", is("single column")),
+            hasProperty("message", is("too many binary objects"))));
+
+    // Column lists are shared by linters with the same column inclusion rule
+    final LintTableView tableView = new LintTableView(table2);
+    final InclusionRule columnInclusionRule = linterConfig.getColumnInclusionRule();
+    assertThat(
+        tableView.getColumns(columnInclusionRule),
+        is(sameInstance(tableView.getColumns(columnInclusionRule))));
+    assertThat(tableView.getColumns(columnInclusionRule).size(), is(3));
+  }
+
+  @Test
+  public void testSinglePassConnection() {
+    final LintCollector lintCollector = new LintCollector();
+    final List<Connection> lintConnections = new ArrayList<>();
+    final List<List<Column>> lintColumns = new ArrayList<>();
+    final BaseLinter linter =
+        new BaseLinter(new PropertyName("test-connection", "Test connection"), lintCollector) {
+
+          @Override
+          public String getSummary() {
+            return "Test connection";
+          }
+
+          @Override
+          protected void lint(final Table table, final Connection connection) {
+            lintConnections.add(connection);
+            lintColumns.add(getColumns(table));
+          }
+
+          @Override
+          protected void start(final Connection connection) {
+            lintConnections.add(connection);
+          }
+        };
+
+    final LightTable table = new LightTable("TABLE1");
+    table.addDataColumn("COL", "TYPE1");
+    final Catalog catalog = LightCatalogUtility.lightCatalog(table);
+    linter.configure(linterConfig);
+    linter.setCatalog(catalog);
+
+    new LintEngine(catalog).lint(List.of(linter), connection);
+
+    // Linters get a connection in the single pass, just as when they run on their own
+    assertThat(lintConnections, contains(sameInstance(connection), sameInstance(connection)));
+
+    // Column lists are shared with other linters, so they cannot be modified
+    final List<Column> columns = lintColumns.get(0);
+    assertThat(columns.size(), is(1));
+    assertThrows(UnsupportedOperationException.class, columns::clear);
+    assertThat(table.getColumns().size(), is(1));
+  }
+
+  @Test
+  public void testSinglePassHoldsConnectionPermit() {
+    final LintCollector lintCollector = new LintCollector();
+    final BaseLinter singlePassLinter =
+        new BaseLinter(new PropertyName("test-single-pass", "Test single pass"), lintCollector) {
+
+          @Override
+          public String getSummary() {
+            return "Test single pass";
+          }
+
+          @Override
+          protected void lint(final Table table, final Connection connection) {
+            // No-op
+          }
+        };
+    final BaseLinter connectionLinter =
+        new BaseLinter(new PropertyName("test-connection", "Test connection"), lintCollector) {
+
+          @Override
+          public String getSummary() {
+            return "Test connection";
+          }
+
+          @Override
+          public boolean usesConnection() {
+            return true;
+          }
+
+          @Override
+          protected void lint(final Table table, final Connection connection) {
+            // No-op
+          }
+        };
+
+    final AtomicInteger openConnections = new AtomicInteger();
+    final AtomicInteger maxOpenConnections = new AtomicInteger();
+    final Runnable useConnection =
+        () -> {
+          maxOpenConnections.accumulateAndGet(openConnections.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(50);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          openConnections.decrementAndGet();
+        };
+
+    new LintScheduler(1)
+        .run(
+            List.of(connectionLinter, singlePassLinter),
+            linter -> useConnection.run(),
+            linters -> useConnection.run());
+
+    // The single pass connection counts towards the limit on connections
+    assertThat(maxOpenConnections.get(), is(1));
+  }
+
   @Test
   public void testTableAllNullableColumns() {
     final LintCollector lintCollector = new LintCollector();
@@ -331,9 +480,9 @@ public class LintersTest {
 
     final LightTable table = spy(new LightTable(new SchemaReference(), "TEST_TABLE"));
 
+    // No rows are returned by the probe
     final Connection connection =
-        TestObjectUtility.mockConnection(
-            new Results(new String[] {"COUNT"}, new Object[][] {{0L}}));
+        TestObjectUtility.mockConnection(new Results(new String[] {"1"}, new Object[][] {}));
 
     ((BaseLinter) linter).lint(table, connection);
 
@@ -341,6 +490,29 @@ public class LintersTest {
     assertThat(lintCollector.getLints().iterator().next().getMessage(), is("empty table"));
   }
 
+  @Test
+  public void testTableEmptyBatched() throws SQLException {
+    final LintCollector lintCollector = new LintCollector();
+    final Linter linter = new LinterProviderTableEmpty().newLinter(lintCollector);
+    linter.configure(linterConfig);
+
+    final LightTable table1 = spy(new LightTable(new SchemaReference(), "TEST_TABLE1"));
+    final LightTable table2 = spy(new LightTable(new SchemaReference(), "TEST_TABLE2"));
+
+    // No rows are returned by the probe
+    final Connection connection =
+        TestObjectUtility.mockConnection(new Results(new String[] {"1"}, new Object[][] {}));
+
+    final BaseLinter baseLinter = (BaseLinter) linter;
+    baseLinter.start(connection);
+    baseLinter.lint(table1, connection);
+    baseLinter.lint(table2, connection);
+    assertThat(lintCollector.getLints().size(), is(0));
+    baseLinter.end(connection);
+
+    assertThat(lintCollector.getLints().size(), is(2));
+  }
+
   @Test
   public void testTableSql() throws SQLException {
     final LintCollector lintCollector = new LintCollector();
@@ -4,11 +4,13 @@
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
 
+-- Rows from a random offset, bounded by the table row count, or random rows
+-- from the start of the table if the row count is not known
 SELECT
   ${basiccolumns}
 FROM
   ${table}
 WHERE
-  RAND() < 0.7
--- TABLESAMPLE SYSTEM (70)
+  RAND() < ${samplefraction}
 LIMIT 10
+OFFSET ${sampleoffset}
@@ -81,28 +81,48 @@ public final class OperationCommand extends AbstractSchemaCrawlerCommand<Operati
               .withIdentifierQuotingStrategy(quote_all)
               .toOptions();
 
-      try (final Connection connection = getConnection();
-          final Statement statement = createStatement(connection)) {
-        for (final Table table : getSortedTables(getCatalog())) {
-          final boolean isAlphabeticalSortForTableColumns =
-              commandOptions.isAlphabeticalSortForTableColumns();
-          try (final ResultSet results =
-              executeAgainstTable(
-                  query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
-            handler.handleData(table, results);
-          } catch (final SQLException e) {
-            LOGGER.log(Level.WARNING, e, new StringFormat("Bad operation for table <%s>", table));
+      final boolean isAlphabeticalSortForTableColumns =
+          commandOptions.isAlphabeticalSortForTableColumns();
+      final List<? extends Table> tables = getSortedTables(getCatalog());
+      if (commandOptions.getMaxThreads() > 1) {
+        final TableQueryScheduler scheduler =
+            new TableQueryScheduler(
+                commandOptions.getMaxThreads(),
+                commandOptions.getQueryTimeout(),
+                commandOptions.getFetchSize(),
+                this::getConnection);
+        scheduler.run(
+            tables, query, isAlphabeticalSortForTableColumns, identifiers, handler::handleData);
+      } else {
+        try (final Connection connection = getConnection();
+            final Statement statement = createStatement(connection)) {
+          configureStatement(statement);
+          for (final Table table : tables) {
+            try (final ResultSet results =
+                executeAgainstTable(
+                    TableSampleUtility.forTable(query, table),
+                    statement,
+                    table,
+                    isAlphabeticalSortForTableColumns,
+                    identifiers)) {
+              handler.handleData(table, results);
+            } catch (final SQLException e) {
+              LOGGER.log(
+                  Level.WARNING, e, new StringFormat("Bad operation for table <%s>", table));
+            }
           }
+        } catch (final SQLException e) {
+          throw new DatabaseAccessException("Could not run query %n%s%n".formatted(query), e);
         }
-      } catch (final SQLException e) {
-        throw new DatabaseAccessException("Could not run query %n%s%n".formatted(query), e);
       }
     } else {
       final String sql = query.query();
       try (final Connection connection = getConnection();
-          final Statement statement = createStatement(connection);
-          final ResultSet results = executeSql(statement, sql)) {
-        handler.handleData(query, results);
+          final Statement statement = createStatement(connection)) {
+        configureStatement(statement);
+        try (final ResultSet results = executeSql(statement, sql)) {
+          handler.handleData(query, results);
+        }
       } catch (final SQLException e) {
         throw new DatabaseAccessException("Could not run query %n%s%n".formatted(query), e);
       }
@@ -116,6 +136,15 @@ public final class OperationCommand extends AbstractSchemaCrawlerCommand<Operati
     return true;
   }
 
+  private void configureStatement(final Statement statement) throws SQLException {
+    if (commandOptions.getQueryTimeout() > 0) {
+      statement.setQueryTimeout(commandOptions.getQueryTimeout());
+    }
+    if (commandOptions.getFetchSize() > 0) {
+      statement.setFetchSize(commandOptions.getFetchSize());
+    }
+  }
+
   private DataTraversalHandler getDataTraversalHandler() {
     final Operation operation = commandOptions.getOperation();
     final OperationsOutputFormat outputFormat =
@@ -0,0 +1,259 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.text.operation;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static us.fatehi.utility.database.DatabaseUtility.createStatement;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Identifiers;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs a query against each table on a bounded pool of workers, each with its own connection.
+ * Workers keep their results open, and results are handed off in the original table order, so
+ * that output is the same as running the queries one table at a time. Rows are read by the
+ * calling thread straight from the open results, so no table is held in memory, and at most one
+ * set of open results is held for each worker. Workers run the queries for the next tables while
+ * results for earlier tables are being output.
+ */
+final class TableQueryScheduler {
+
+  private record TableResult(
+      Table table, ResultSet results, SQLException exception, long elapsedNanos) {}
+
+  /**
+   * Table that is being queried. The worker keeps results open until they are handled, since the
+   * statement for the worker is reused for the next table.
+   */
+  private record PendingTable(CompletableFuture<TableResult> result, CountDownLatch handled) {
+
+    PendingTable() {
+      this(new CompletableFuture<>(), new CountDownLatch(1));
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(TableQueryScheduler.class.getName());
+
+  private static final int SLOWEST_TABLES_COUNT = 10;
+
+  private final int maxThreads;
+  private final int queryTimeout;
+  private final int fetchSize;
+  private final Supplier<Connection> connectionSupplier;
+
+  TableQueryScheduler(
+      final int maxThreads,
+      final int queryTimeout,
+      final int fetchSize,
+      final Supplier<Connection> connectionSupplier) {
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("Max threads must be positive");
+    }
+    this.maxThreads = maxThreads;
+    this.queryTimeout = queryTimeout;
+    this.fetchSize = fetchSize;
+    this.connectionSupplier = requireNonNull(connectionSupplier, "No connection supplier provided");
+  }
+
+  /**
+   * Runs the query against all tables, and blocks until all results are handled.
+   *
+   * @param tables Tables to query, in output order
+   * @param query Query to run against each table
+   * @param isAlphabeticalSortForTableColumns Whether to sort table columns in the query
+   * @param identifiers Identifiers for quoting table and column names
+   * @param handleData Handles results for each table, called on the calling thread in table order
+   */
+  void run(
+      final List<? extends Table> tables,
+      final Query query,
+      final boolean isAlphabeticalSortForTableColumns,
+      final Identifiers identifiers,
+      final BiConsumer<Table, ResultSet> handleData) {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(query, "No query provided");
+    requireNonNull(handleData, "No data handler provided");
+    if (tables.isEmpty()) {
+      return;
+    }
+
+    final int threads = Math.min(maxThreads, tables.size());
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Running query against %d tables on %d connections", tables.size(), threads));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final Queue<Connection> connections = new ConcurrentLinkedQueue<>();
+    final ThreadLocal<Statement> statements = new ThreadLocal<>();
+    final List<TableResult> timings = new ArrayList<>();
+    final Deque<PendingTable> pending = new ArrayDeque<>();
+    try {
+      // Workers block while they hold open results, so queue only a few tables ahead
+      final int window = threads * 2;
+      int next = 0;
+      while (next < tables.size() || !pending.isEmpty()) {
+        while (next < tables.size() && pending.size() < window) {
+          final Table table = tables.get(next++);
+          final PendingTable pendingTable = new PendingTable();
+          pending.add(pendingTable);
+          executor.execute(
+              () -> {
+                final long start = System.nanoTime();
+                try {
+                  Statement statement = statements.get();
+                  if (statement == null) {
+                    statement = newStatement(connections);
+                    statements.set(statement);
+                  }
+                  try (final ResultSet results =
+                      executeAgainstTable(
+                          TableSampleUtility.forTable(query, table),
+                          statement,
+                          table,
+                          isAlphabeticalSortForTableColumns,
+                          identifiers)) {
+                    pendingTable
+                        .result()
+                        .complete(
+                            new TableResult(table, results, null, System.nanoTime() - start));
+                    pendingTable.handled().await();
+                  }
+                } catch (final SQLException e) {
+                  pendingTable
+                      .result()
+                      .complete(new TableResult(table, null, e, System.nanoTime() - start));
+                } catch (final InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  pendingTable.result().completeExceptionally(e);
+                } catch (final RuntimeException e) {
+                  pendingTable.result().completeExceptionally(e);
+                }
+              });
+        }
+
+        final PendingTable pendingTable = pending.removeFirst();
+        try {
+          final TableResult result = awaitResult(pendingTable.result());
+          // Keep only timings, since results are closed once they are handled
+          timings.add(
+              new TableResult(result.table(), null, result.exception(), result.elapsedNanos()));
+          if (result.exception() != null) {
+            LOGGER.log(
+                Level.WARNING,
+                result.exception(),
+                new StringFormat("Bad operation for table <%s>", result.table()));
+            continue;
+          }
+          handleData.accept(result.table(), result.results());
+        } finally {
+          // Release the worker, which closes the results
+          pendingTable.handled().countDown();
+        }
+      }
+    } finally {
+      for (final PendingTable pendingTable : pending) {
+        pendingTable.handled().countDown();
+      }
+      executor.shutdownNow();
+      awaitTermination(executor);
+      closeConnections(connections);
+    }
+
+    LOGGER.log(Level.INFO, (Supplier<String>) () -> getSlowestTablesSummary(timings));
+  }
+
+  private TableResult awaitResult(final CompletableFuture<TableResult> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while waiting for table queries", e);
+    } catch (final ExecutionException e) {
+      throw new ExecutionRuntimeException("Could not run query against table", e.getCause());
+    }
+  }
+
+  private void awaitTermination(final ExecutorService executor) {
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.log(Level.WARNING, "Table queries did not stop in time");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void closeConnections(final Queue<Connection> connections) {
+    for (final Connection connection : connections) {
+      try {
+        connection.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  private String getSlowestTablesSummary(final List<TableResult> timings) {
+    final List<TableResult> sortedTimings = new ArrayList<>(timings);
+    sortedTimings.sort(Comparator.comparingLong(TableResult::elapsedNanos).reversed());
+
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("Slowest table queries:%n".formatted());
+    for (final TableResult timing :
+        sortedTimings.subList(0, Math.min(SLOWEST_TABLES_COUNT, sortedTimings.size()))) {
+      buffer.append(
+          "%10d ms %s%s%n"
+              .formatted(
+                  TimeUnit.NANOSECONDS.toMillis(timing.elapsedNanos()),
+                  timing.table().getFullName(),
+                  timing.exception() == null ? "" : " [failed]"));
+    }
+    return buffer.toString();
+  }
+
+  private Statement newStatement(final Queue<Connection> connections) throws SQLException {
+    final Connection connection = connectionSupplier.get();
+    // Track the connection, so that it is closed even if creating the statement fails
+    connections.add(connection);
+    final Statement statement = createStatement(connection);
+    if (queryTimeout > 0) {
+      statement.setQueryTimeout(queryTimeout);
+    }
+    if (fetchSize > 0) {
+      statement.setFetchSize(fetchSize);
+    }
+    return statement;
+  }
+}
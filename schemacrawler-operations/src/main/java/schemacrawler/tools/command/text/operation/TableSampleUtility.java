@@ -0,0 +1,129 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.text.operation;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.utility.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.utility.TableRowCountsUtility.hasRowCount;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Query;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Sizes table sample queries for each table, from the row count of the table in the catalog, so
+ * that the cost of sampling a table is bounded no matter how large the table is. Queries can use
+ * these parameters:
+ *
+ * <ul>
+ *   <li><code>${samplepercent}</code> - percentage of the table to sample, for dialects that
+ *       support block level sampling, sized to sample about {@value #SAMPLE_TARGET_ROWS} rows
+ *   <li><code>${sampleoffset}</code> - random number of rows to skip, for dialects that do not
+ *       support sampling, bounded to {@value #MAX_SAMPLE_OFFSET} rows
+ *   <li><code>${samplefraction}</code> - fraction of rows to keep, for dialects that filter rows
+ *       with a random number function
+ * </ul>
+ *
+ * If the row count of a table is not known, no rows are skipped, and rows are instead kept at
+ * random with a fraction of {@value #UNKNOWN_ROW_COUNT_SAMPLE_FRACTION}, so that the sample limit
+ * is reached after reading a few dozen rows. If the row count is known, every row from the random
+ * offset is kept.
+ */
+final class TableSampleUtility {
+
+  private static final Logger LOGGER = Logger.getLogger(TableSampleUtility.class.getName());
+
+  static final String SAMPLE_FRACTION = "${samplefraction}";
+  static final String SAMPLE_OFFSET = "${sampleoffset}";
+  static final String SAMPLE_PERCENT = "${samplepercent}";
+
+  static final int MAX_SAMPLE_OFFSET = 100_000;
+  // Oracle requires the sample percentage to be less than 100
+  static final double MAX_SAMPLE_PERCENT = 99.999999;
+  static final double MIN_SAMPLE_PERCENT = 0.000001;
+  // Oversample, since block level sampling can pick sparsely filled blocks
+  static final long SAMPLE_TARGET_ROWS = 1_000;
+  static final int SAMPLE_SIZE = 10;
+  static final double UNKNOWN_ROW_COUNT_SAMPLE_FRACTION = 0.25;
+
+  /**
+   * Expands sample parameters in a query for a table. Queries without sample parameters are
+   * returned as is.
+   *
+   * @param query Query to run against the table
+   * @param table Table to sample
+   * @return Query with sample parameters sized for the table
+   */
+  static Query forTable(final Query query, final Table table) {
+    requireNonNull(query, "No query provided");
+    requireNonNull(table, "No table provided");
+
+    final String queryString = query.query();
+    if (queryString == null
+        || !queryString.contains(SAMPLE_PERCENT)
+            && !queryString.contains(SAMPLE_OFFSET)
+            && !queryString.contains(SAMPLE_FRACTION)) {
+      return query;
+    }
+
+    final String samplePercent = String.format(Locale.ROOT, "%.6f", samplePercent(table));
+    final String sampleOffset = String.valueOf(sampleOffset(table));
+    final String sampleFraction = String.format(Locale.ROOT, "%.6f", sampleFraction(table));
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Sampling table <%s> at %s%%, skipping %s rows, keeping a fraction of %s",
+            table, samplePercent, sampleOffset, sampleFraction));
+
+    final String sampleQueryString =
+        queryString
+            .replace(SAMPLE_PERCENT, samplePercent)
+            .replace(SAMPLE_OFFSET, sampleOffset)
+            .replace(SAMPLE_FRACTION, sampleFraction);
+    return new Query(query.name(), sampleQueryString);
+  }
+
+  static double sampleFraction(final Table table) {
+    if (!hasRowCount(table)) {
+      return UNKNOWN_ROW_COUNT_SAMPLE_FRACTION;
+    }
+    return 1.0;
+  }
+
+  static long sampleOffset(final Table table) {
+    if (!hasRowCount(table)) {
+      return 0;
+    }
+    final long maxOffset = Math.min(getRowCount(table) - SAMPLE_SIZE, MAX_SAMPLE_OFFSET);
+    if (maxOffset <= 0) {
+      return 0;
+    }
+    return ThreadLocalRandom.current().nextLong(maxOffset + 1);
+  }
+
+  static double samplePercent(final Table table) {
+    if (!hasRowCount(table)) {
+      return MAX_SAMPLE_PERCENT;
+    }
+    final long rowCount = getRowCount(table);
+    if (rowCount <= SAMPLE_TARGET_ROWS) {
+      return MAX_SAMPLE_PERCENT;
+    }
+    final double samplePercent = 100.0 * SAMPLE_TARGET_ROWS / rowCount;
+    return Math.max(MIN_SAMPLE_PERCENT, Math.min(MAX_SAMPLE_PERCENT, samplePercent));
+  }
+
+  private TableSampleUtility() {
+    // Prevent instantiation
+  }
+}
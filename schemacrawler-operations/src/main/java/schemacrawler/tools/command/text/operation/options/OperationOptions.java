@@ -18,7 +18,10 @@ public final class OperationOptions extends BaseTextOptions {
 
   private final Operation operation;
   private final boolean isShowLobs;
+  private final int fetchSize;
   private final int maxRows;
+  private final int maxThreads;
+  private final int queryTimeout;
 
   protected OperationOptions(final OperationOptionsBuilder builder) {
     super(builder);
@@ -29,6 +32,28 @@ public final class OperationOptions extends BaseTextOptions {
     if (maxRows < 0) {
       throw new IllegalArgumentException("Max rows cannot be negative");
     }
+    fetchSize = builder.fetchSize;
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    maxThreads = builder.maxThreads;
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("Max threads must be positive");
+    }
+    queryTimeout = builder.queryTimeout;
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("Query timeout cannot be negative");
+    }
+  }
+
+  /**
+   * Gets the number of rows to fetch from the database at a time. A value of 0 uses the default
+   * for the JDBC driver.
+   *
+   * @return Fetch size
+   */
+  public int getFetchSize() {
+    return fetchSize;
   }
 
   /**
@@ -40,6 +65,16 @@ public final class OperationOptions extends BaseTextOptions {
     return maxRows;
   }
 
+  /**
+   * Gets the maximum number of tables to query at the same time, each on its own connection. A
+   * value of 1 runs queries one table at a time, on a single connection.
+   *
+   * @return Maximum number of concurrent table queries
+   */
+  public int getMaxThreads() {
+    return maxThreads;
+  }
+
   public Operation getOperation() {
     return operation;
   }
@@ -48,6 +83,16 @@ public final class OperationOptions extends BaseTextOptions {
     return operation.getQuery(views);
   }
 
+  /**
+   * Gets the timeout for the query against each table, in seconds. A value of 0 means that there
+   * is no timeout.
+   *
+   * @return Query timeout in seconds
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
   /**
    * Whether to show LOBs.
    *
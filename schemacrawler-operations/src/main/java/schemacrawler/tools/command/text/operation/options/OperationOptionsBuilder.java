@@ -16,7 +16,10 @@ public final class OperationOptionsBuilder
     extends BaseTextOptionsBuilder<OperationOptionsBuilder, OperationOptions> {
 
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX + "data.show_lobs";
+  private static final String FETCH_SIZE = SCHEMACRAWLER_FORMAT_PREFIX + "data.fetch_size";
   private static final String MAX_ROWS = SCHEMACRAWLER_FORMAT_PREFIX + "data.max_rows";
+  private static final String MAX_THREADS = SCHEMACRAWLER_FORMAT_PREFIX + "data.max_threads";
+  private static final String QUERY_TIMEOUT = SCHEMACRAWLER_FORMAT_PREFIX + "data.query_timeout";
 
   public static OperationOptionsBuilder builder() {
     return new OperationOptionsBuilder();
@@ -25,10 +28,14 @@ public final class OperationOptionsBuilder
   private String command;
   protected Operation operation;
   protected boolean isShowLobs;
+  protected int fetchSize;
   protected int maxRows;
+  protected int maxThreads;
+  protected int queryTimeout;
 
   private OperationOptionsBuilder() {
     // Set default values, if any
+    maxThreads = 1;
   }
 
   @Override
@@ -45,6 +52,10 @@ public final class OperationOptionsBuilder
       maxRows = Integer.MAX_VALUE;
     }
 
+    fetchSize(config.getIntegerValue(FETCH_SIZE, 0));
+    maxThreads(config.getIntegerValue(MAX_THREADS, 1));
+    queryTimeout(config.getIntegerValue(QUERY_TIMEOUT, 0));
+
     operation = getQueryFromCommand(config);
 
     return this;
@@ -59,10 +70,27 @@ public final class OperationOptionsBuilder
 
     isShowLobs = options.isShowLobs();
     maxRows = options.getMaxRows();
+    fetchSize = options.getFetchSize();
+    maxThreads = options.getMaxThreads();
+    queryTimeout = options.getQueryTimeout();
 
     return this;
   }
 
+  /**
+   * Number of rows to fetch from the database at a time, when dumping data.
+   *
+   * @param value Fetch size, with 0 for the JDBC driver default.
+   * @return Builder
+   */
+  public OperationOptionsBuilder fetchSize(final int value) {
+    fetchSize = value;
+    if (fetchSize < 0) {
+      fetchSize = 0;
+    }
+    return this;
+  }
+
   /**
    * Show LOB data, or not.
    *
@@ -77,6 +105,35 @@ public final class OperationOptionsBuilder
     return this;
   }
 
+  /**
+   * Maximum number of tables to query at the same time, each on its own connection. Results are
+   * still output in table sort order.
+   *
+   * @param value Maximum number of concurrent table queries, with 1 for one at a time.
+   * @return Builder
+   */
+  public OperationOptionsBuilder maxThreads(final int value) {
+    maxThreads = value;
+    if (maxThreads <= 0) {
+      maxThreads = 1;
+    }
+    return this;
+  }
+
+  /**
+   * Timeout for the query against each table.
+   *
+   * @param value Timeout in seconds, with 0 for no timeout.
+   * @return Builder
+   */
+  public OperationOptionsBuilder queryTimeout(final int value) {
+    queryTimeout = value;
+    if (queryTimeout < 0) {
+      queryTimeout = 0;
+    }
+    return this;
+  }
+
   public OperationOptionsBuilder showLobs() {
     return showLobs(true);
   }
@@ -97,6 +154,9 @@ public final class OperationOptionsBuilder
     final Config config = super.toConfig();
     config.put(SHOW_LOBS, isShowLobs);
     config.put(MAX_ROWS, maxRows);
+    config.put(FETCH_SIZE, fetchSize);
+    config.put(MAX_THREADS, maxThreads);
+    config.put(QUERY_TIMEOUT, queryTimeout);
     return config;
   }
 
@@ -12,9 +12,10 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.CrawlInfo;
@@ -32,8 +33,6 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.cfg.MapperBuilder;
 import us.fatehi.utility.InclusionCounts;
 import us.fatehi.utility.Utility;
-import us.fatehi.utility.database.ColumnDataIndicator;
-import us.fatehi.utility.database.DataResultSet;
 import us.fatehi.utility.database.DatabaseUtility;
 import us.fatehi.utility.string.StringFormat;
 
@@ -216,25 +215,13 @@ public abstract class BaseJacksonFormatter implements DataTraversalHandler {
       final InclusionCounts retrievalCounts = new InclusionCounts(name.toLowerCase());
       generator.writeName("data");
       generator.writeStartArray();
-      try (final DataResultSet dataRows = new DataResultSet(rows)) {
-        dataRows.setReadLargeData(options.isShowLobs());
-        dataRows.setMaxRows(options.getMaxRows());
+      try (final DataRowCursor dataRows = new DataRowCursor(rows, options)) {
+        final int columnCount = dataRows.getColumnCount();
         while (dataRows.next()) {
           retrievalCounts.count();
           generator.writeStartObject();
-          final List<String> columnNames = dataRows.getColumnNames();
-          final List<Object> currentRow = dataRows.row();
-          for (int i = 0; i < columnNames.size(); i++) {
-            final Object element = currentRow.get(i);
-            final String elementData;
-            if (element == null) {
-              elementData = null;
-            } else if (element instanceof ColumnDataIndicator) {
-              elementData = "<BINARY DATA>";
-            } else {
-              elementData = element.toString();
-            }
-            generator.writeStringProperty(columnNames.get(i), elementData);
+          for (int i = 0; i < columnCount; i++) {
+            writeValue(dataRows, i);
           }
           generator.writeEndObject();
           retrievalCounts.countIncluded();
@@ -251,6 +238,36 @@ public abstract class BaseJacksonFormatter implements DataTraversalHandler {
     }
   }
 
+  /**
+   * Writes a column value, with numbers and booleans written as native JSON values.
+   *
+   * @param dataRows Cursor positioned on the current row
+   * @param index Column index
+   */
+  private void writeValue(final DataRowCursor dataRows, final int index) {
+    final String columnName = dataRows.getColumnName(index);
+    if (dataRows.isNull(index)) {
+      generator.writeNullProperty(columnName);
+    } else if (dataRows.isBinary(index)) {
+      generator.writeStringProperty(columnName, "<BINARY DATA>");
+    } else if (dataRows.isBoolean(index)) {
+      generator.writeBooleanProperty(columnName, dataRows.getBoolean(index));
+    } else if (dataRows.isNumber(index)) {
+      final Number number = dataRows.getNumber(index);
+      if (number instanceof final BigDecimal bigDecimal) {
+        generator.writeNumberProperty(columnName, bigDecimal);
+      } else if (number instanceof final BigInteger bigInteger) {
+        generator.writeNumberProperty(columnName, bigInteger);
+      } else if (number instanceof Double || number instanceof Float) {
+        generator.writeNumberProperty(columnName, number.doubleValue());
+      } else {
+        generator.writeNumberProperty(columnName, number.longValue());
+      }
+    } else {
+      generator.writeStringProperty(columnName, dataRows.getString(index));
+    }
+  }
+
   private void writeEndDataBlock() {
     try {
       generator.writeEndObject();
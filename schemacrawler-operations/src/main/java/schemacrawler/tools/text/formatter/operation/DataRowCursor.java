@@ -0,0 +1,186 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.text.formatter.operation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Set;
+import schemacrawler.tools.command.text.operation.options.OperationOptions;
+import us.fatehi.utility.database.ColumnDataIndicator;
+import us.fatehi.utility.database.DataResultSet;
+
+/**
+ * Forward-only cursor over data rows, for formatters. Column names are read once, and the values
+ * for the current row are read from the result set straight into a buffer that is reused for every
+ * row, so that formatters do not need to copy or look up anything per row. The buffer is only valid
+ * until the next call to {@link #next()}. Results with large object or binary columns are read a
+ * row at a time, so that those columns are shown the same way as in other output.
+ */
+final class DataRowCursor implements AutoCloseable {
+
+  // Column types that need to be read as large or binary data, rather than as plain values
+  private static final Set<Integer> LARGE_DATA_TYPES =
+      Set.of(
+          Types.ARRAY,
+          Types.BINARY,
+          Types.BLOB,
+          Types.CLOB,
+          Types.JAVA_OBJECT,
+          Types.LONGNVARCHAR,
+          Types.LONGVARBINARY,
+          Types.LONGVARCHAR,
+          Types.NCLOB,
+          Types.OTHER,
+          Types.REF,
+          Types.SQLXML,
+          Types.STRUCT,
+          Types.VARBINARY);
+
+  private static boolean hasLargeData(final ResultSet results, final int columnCount)
+      throws SQLException {
+    final ResultSetMetaData metaData = results.getMetaData();
+    for (int i = 1; i <= columnCount; i++) {
+      if (LARGE_DATA_TYPES.contains(metaData.getColumnType(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private final ResultSet results;
+  private final DataResultSet dataRows;
+  private final String[] columnNames;
+  private final Object[] row;
+  private final boolean readRows;
+
+  DataRowCursor(final ResultSet results, final OperationOptions options) throws SQLException {
+    requireNonNull(results, "No results provided");
+    requireNonNull(options, "No operation options provided");
+
+    this.results = results;
+    dataRows = new DataResultSet(results);
+    dataRows.setReadLargeData(options.isShowLobs());
+    dataRows.setMaxRows(options.getMaxRows());
+
+    columnNames = dataRows.getColumnNames().toArray(new String[0]);
+    row = new Object[columnNames.length];
+    readRows = hasLargeData(results, columnNames.length);
+  }
+
+  @Override
+  public void close() throws SQLException {
+    dataRows.close();
+  }
+
+  int getColumnCount() {
+    return columnNames.length;
+  }
+
+  String getColumnName(final int index) {
+    return columnNames[index];
+  }
+
+  String[] getColumnNames() {
+    return columnNames.clone();
+  }
+
+  /**
+   * Gets the value of a boolean column in the current row.
+   *
+   * @param index Zero-based column index
+   * @return Column value
+   */
+  boolean getBoolean(final int index) {
+    return (Boolean) row[index];
+  }
+
+  /**
+   * Gets the value of a numeric column in the current row.
+   *
+   * @param index Zero-based column index
+   * @return Column value, which may be null
+   */
+  Number getNumber(final int index) {
+    return (Number) row[index];
+  }
+
+  /**
+   * Gets the value of a column in the current row.
+   *
+   * @param index Zero-based column index
+   * @return Column value, which may be null
+   */
+  Object getObject(final int index) {
+    return row[index];
+  }
+
+  /**
+   * Gets the current row. The returned array is reused for every row, and must not be held on to.
+   *
+   * @return Values for the current row
+   */
+  Object[] getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the value of a column in the current row, as a string.
+   *
+   * @param index Zero-based column index
+   * @return Column value, which may be null
+   */
+  String getString(final int index) {
+    final Object value = row[index];
+    return value == null ? null : value.toString();
+  }
+
+  boolean isBinary(final int index) {
+    return row[index] instanceof ColumnDataIndicator;
+  }
+
+  boolean isBoolean(final int index) {
+    return row[index] instanceof Boolean;
+  }
+
+  boolean isNull(final int index) {
+    return row[index] == null;
+  }
+
+  boolean isNumber(final int index) {
+    return row[index] instanceof Number;
+  }
+
+  /**
+   * Advances to the next row, and reads its values into the row buffer.
+   *
+   * @return True if there is another row
+   * @throws SQLException On an exception reading data
+   */
+  boolean next() throws SQLException {
+    if (!dataRows.next()) {
+      return false;
+    }
+    if (readRows) {
+      final List<Object> currentRow = dataRows.row();
+      for (int i = 0; i < row.length; i++) {
+        row[i] = currentRow.get(i);
+      }
+    } else {
+      for (int i = 0; i < row.length; i++) {
+        row[i] = results.getObject(i + 1);
+      }
+    }
+    return true;
+  }
+}
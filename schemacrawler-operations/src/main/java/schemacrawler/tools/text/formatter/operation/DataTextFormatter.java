@@ -14,7 +14,6 @@ import static schemacrawler.tools.command.text.schema.options.SchemaTextDetailTy
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Identifiers;
@@ -29,7 +28,6 @@ import schemacrawler.tools.text.formatter.base.BaseTabularFormatter;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.DocumentHeaderType;
 import us.fatehi.utility.Color;
 import us.fatehi.utility.InclusionCounts;
-import us.fatehi.utility.database.DataResultSet;
 import us.fatehi.utility.database.DatabaseUtility;
 import us.fatehi.utility.html.Alignment;
 import us.fatehi.utility.string.StringFormat;
@@ -152,17 +150,12 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
 
     final String name = "Data for %s for <%s>".formatted(operation, title);
     final InclusionCounts retrievalCounts = new InclusionCounts(name.toLowerCase());
-    try (final DataResultSet dataRows = new DataResultSet(rows)) {
-      dataRows.setReadLargeData(options.isShowLobs());
-      dataRows.setMaxRows(options.getMaxRows());
-
+    try (final DataRowCursor dataRows = new DataRowCursor(rows, options)) {
       formattingHelper.writeRowHeader(quoteColumnNames(dataRows.getColumnNames()));
 
       while (dataRows.next()) {
         retrievalCounts.count();
-        final List<Object> currentRow = dataRows.row();
-        final Object[] columnData = currentRow.toArray();
-        formattingHelper.writeRow(columnData);
+        formattingHelper.writeRow(dataRows.getRow());
         retrievalCounts.countIncluded();
       }
     } catch (final SQLException e) {
@@ -182,9 +175,9 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
     }
   }
 
-  private String[] quoteColumnNames(final List<String> columnNames) {
-    final int columnCount = columnNames.size();
-    final String[] quotedColumnNames = columnNames.toArray(new String[0]);
+  private String[] quoteColumnNames(final String[] columnNames) {
+    final int columnCount = columnNames.length;
+    final String[] quotedColumnNames = columnNames;
     for (int i = 0; i < columnCount; i++) {
       final String columnName = quotedColumnNames[i];
       final String quotedColumnName = identifiers.quoteName(columnName);
@@ -36,7 +36,13 @@ public class OperationOptionsBuilderTest {
   @Test
   public void fromConfigRoundtrip() {
     final OperationOptionsBuilder original =
-        OperationOptionsBuilder.builder().withCommand("count").showLobs(true).maxRows(7);
+        OperationOptionsBuilder.builder()
+            .withCommand("count")
+            .showLobs(true)
+            .maxRows(7)
+            .maxThreads(4)
+            .queryTimeout(30)
+            .fetchSize(500);
     final Config config = original.toConfig();
 
     final OperationOptionsBuilder restored = OperationOptionsBuilder.builder().withCommand("count");
@@ -45,6 +51,9 @@ public class OperationOptionsBuilderTest {
 
     assertThat(options.isShowLobs(), is(true));
     assertThat(options.getMaxRows(), is(7));
+    assertThat(options.getMaxThreads(), is(4));
+    assertThat(options.getQueryTimeout(), is(30));
+    assertThat(options.getFetchSize(), is(500));
   }
 
   @Test
@@ -84,6 +93,28 @@ public class OperationOptionsBuilderTest {
     assertThat(options.getMaxRows(), is(10));
   }
 
+  @Test
+  public void maxThreadsDefault() {
+    final OperationOptions options =
+        OperationOptionsBuilder.builder().withCommand("count").toOptions();
+    assertThat(options.getMaxThreads(), is(1));
+    assertThat(options.getQueryTimeout(), is(0));
+  }
+
+  @Test
+  public void maxThreadsNonPositiveResetsToOne() {
+    final OperationOptions options =
+        OperationOptionsBuilder.builder()
+            .withCommand("count")
+            .maxThreads(0)
+            .queryTimeout(-5)
+            .fetchSize(-10)
+            .toOptions();
+    assertThat(options.getMaxThreads(), is(1));
+    assertThat(options.getQueryTimeout(), is(0));
+    assertThat(options.getFetchSize(), is(0));
+  }
+
   @Test
   public void showLobsFalse() {
     final OperationOptionsBuilder builder =
@@ -89,6 +89,20 @@ public class OperationsCommandsOutputTest {
     textOutputTest(operation.name(), connectionSource, ConfigUtility.newConfig());
   }
 
+  @ParameterizedTest
+  @EnumSource(
+      value = OperationType.class,
+      names = {"count", "dump"})
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void parallelOperationOutput(
+      final OperationType operation, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    // Output should be identical to running against one table at a time
+    final Config config = ConfigUtility.newConfig();
+    config.put("schemacrawler.format.data.max_threads", 4);
+    textOutputTest(operation.name(), connectionSource, config);
+  }
+
   private void textOutputTest(
       final String command, final DatabaseConnectionSource connectionSource, final Config config)
       throws Exception {
@@ -0,0 +1,110 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.text.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.loader.utility.TableRowCountsUtility.TABLE_ROW_COUNT_KEY;
+import static schemacrawler.tools.command.text.operation.TableSampleUtility.MAX_SAMPLE_OFFSET;
+import static schemacrawler.tools.command.text.operation.TableSampleUtility.MAX_SAMPLE_PERCENT;
+import static schemacrawler.tools.command.text.operation.TableSampleUtility.MIN_SAMPLE_PERCENT;
+import static schemacrawler.tools.command.text.operation.TableSampleUtility.UNKNOWN_ROW_COUNT_SAMPLE_FRACTION;
+
+import org.junit.jupiter.api.Test;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.test.utility.crawl.LightTable;
+
+public class TableSampleUtilityTest {
+
+  private static LightTable newTable(final Long rowCount) {
+    final LightTable table = new LightTable(new SchemaReference(), "TEST_TABLE");
+    if (rowCount != null) {
+      table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+    }
+    return table;
+  }
+
+  @Test
+  public void forTable() {
+    final Query query =
+        new Query(
+            "tablesample",
+            "SELECT * FROM ${table} TABLESAMPLE SYSTEM(${samplepercent}) OFFSET ${sampleoffset}");
+    final Query sampleQuery = TableSampleUtility.forTable(query, newTable(1_000_000_000L));
+
+    assertThat(sampleQuery.name(), is("tablesample"));
+    assertThat(sampleQuery.query(), containsString("SYSTEM(0.000100)"));
+    assertThat(sampleQuery.query(), not(containsString("${sample")));
+    // Other parameters are left for expansion against the table
+    assertThat(sampleQuery.query(), containsString("${table}"));
+  }
+
+  @Test
+  public void forTableWithoutRowCount() {
+    final Query query =
+        new Query(
+            "tablesample",
+            "SELECT * FROM ${table} WHERE RAND() < ${samplefraction}"
+                + " LIMIT 10 OFFSET ${sampleoffset}");
+    final Query sampleQuery = TableSampleUtility.forTable(query, newTable(null));
+
+    assertThat(sampleQuery.query(), containsString("RAND() < 0.250000 LIMIT 10 OFFSET 0"));
+    assertThat(sampleQuery.query(), not(containsString("${sample")));
+  }
+
+  @Test
+  public void forTableWithoutSampleParameters() {
+    final Query query = new Query("dump", "SELECT ${columns} FROM ${table}");
+    assertThat(TableSampleUtility.forTable(query, newTable(100L)), is(sameInstance(query)));
+  }
+
+  @Test
+  public void sampleFraction() {
+    assertThat(
+        TableSampleUtility.sampleFraction(newTable(null)), is(UNKNOWN_ROW_COUNT_SAMPLE_FRACTION));
+    assertThat(TableSampleUtility.sampleFraction(newTable(0L)), is(1.0));
+    assertThat(TableSampleUtility.sampleFraction(newTable(5_000_000_000L)), is(1.0));
+  }
+
+  @Test
+  public void sampleOffset() {
+    assertThat(TableSampleUtility.sampleOffset(newTable(null)), is(0L));
+    assertThat(TableSampleUtility.sampleOffset(newTable(0L)), is(0L));
+    assertThat(TableSampleUtility.sampleOffset(newTable(10L)), is(0L));
+
+    for (int i = 0; i < 100; i++) {
+      final long smallTableOffset = TableSampleUtility.sampleOffset(newTable(25L));
+      assertThat(smallTableOffset, is(greaterThanOrEqualTo(0L)));
+      assertThat(smallTableOffset, is(lessThanOrEqualTo(15L)));
+
+      final long largeTableOffset = TableSampleUtility.sampleOffset(newTable(5_000_000_000L));
+      assertThat(largeTableOffset, is(greaterThanOrEqualTo(0L)));
+      assertThat(largeTableOffset, is(lessThanOrEqualTo((long) MAX_SAMPLE_OFFSET)));
+    }
+  }
+
+  @Test
+  public void samplePercent() {
+    assertThat(TableSampleUtility.samplePercent(newTable(null)), is(MAX_SAMPLE_PERCENT));
+    assertThat(TableSampleUtility.samplePercent(newTable(0L)), is(MAX_SAMPLE_PERCENT));
+    assertThat(TableSampleUtility.samplePercent(newTable(1_000L)), is(MAX_SAMPLE_PERCENT));
+    assertThat(TableSampleUtility.samplePercent(newTable(100_000L)), is(closeTo(1.0, 1e-9)));
+    assertThat(
+        TableSampleUtility.samplePercent(newTable(1_000_000_000L)), is(closeTo(0.0001, 1e-12)));
+    assertThat(
+        TableSampleUtility.samplePercent(newTable(Long.MAX_VALUE)), is(MIN_SAMPLE_PERCENT));
+  }
+}
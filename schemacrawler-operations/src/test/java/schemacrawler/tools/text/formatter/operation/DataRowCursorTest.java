@@ -0,0 +1,96 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.text.formatter.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.text.operation.options.OperationOptions;
+import schemacrawler.tools.command.text.operation.options.OperationOptionsBuilder;
+import us.fatehi.utility.database.DataResultSet;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class DataRowCursorTest {
+
+  private static final String QUERY =
+      """
+      SELECT ID, FIRSTNAME, LASTNAME, ID > 1 AS LATER, CAST(NULL AS VARCHAR(10)) AS NOTHING
+      FROM PUBLIC.BOOKS.AUTHORS
+      ORDER BY ID
+      """;
+
+  @Test
+  public void cursorMatchesDataRows(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    // All rows
+    final OperationOptions options = OperationOptionsBuilder.builder().maxRows(-1).toOptions();
+
+    final List<List<Object>> expectedRows = new ArrayList<>();
+    try (final Connection connection = connectionSource.get();
+        final Statement statement = connection.createStatement();
+        final ResultSet results = statement.executeQuery(QUERY)) {
+      final DataResultSet dataRows = new DataResultSet(results);
+      while (dataRows.next()) {
+        expectedRows.add(dataRows.row());
+      }
+    }
+
+    final List<List<Object>> rows = new ArrayList<>();
+    try (final Connection connection = connectionSource.get();
+        final Statement statement = connection.createStatement();
+        final DataRowCursor dataRows =
+            new DataRowCursor(statement.executeQuery(QUERY), options)) {
+      assertThat(
+          dataRows.getColumnNames(),
+          arrayContaining("ID", "FIRSTNAME", "LASTNAME", "LATER", "NOTHING"));
+      while (dataRows.next()) {
+        rows.add(new ArrayList<>(Arrays.asList(dataRows.getRow())));
+
+        assertThat(dataRows.isNumber(0), is(true));
+        assertThat(dataRows.getNumber(0), is(dataRows.getObject(0)));
+        assertThat(dataRows.getString(1), is(dataRows.getObject(1)));
+        assertThat(dataRows.isBoolean(3), is(true));
+        assertThat(dataRows.getBoolean(3), is(dataRows.getNumber(0).intValue() > 1));
+        assertThat(dataRows.isNull(4), is(true));
+        assertThat(dataRows.getString(4), is(nullValue()));
+      }
+    }
+
+    assertThat(rows.isEmpty(), is(false));
+    assertThat(rows, is(expectedRows));
+  }
+
+  @Test
+  public void cursorMaxRows(final DatabaseConnectionSource connectionSource) throws Exception {
+    final OperationOptions options = OperationOptionsBuilder.builder().maxRows(2).toOptions();
+
+    int rowCount = 0;
+    try (final Connection connection = connectionSource.get();
+        final Statement statement = connection.createStatement();
+        final DataRowCursor dataRows =
+            new DataRowCursor(statement.executeQuery(QUERY), options)) {
+      while (dataRows.next()) {
+        rowCount++;
+      }
+    }
+
+    assertThat(rowCount, is(2));
+  }
+}
@@ -18,6 +18,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import us.fatehi.utility.readconfig.SystemPropertiesConfig;
 import us.fatehi.utility.string.StringFormat;
 
 class OracleInformationSchemaViewsBuilder
@@ -25,6 +26,9 @@ class OracleInformationSchemaViewsBuilder
 
   private static final Logger LOGGER = Logger.getLogger(OracleDatabaseConnector.class.getName());
 
+  private static final String SC_ORACLE_DDL = "SC_ORACLE_DDL";
+  private static final String PER_OBJECT_DDL = "per_object";
+
   private static String getCatalogScope(final Connection connection) {
     final String sql = "SELECT TABLE_NAME FROM DBA_TABLES WHERE ROWNUM = 1";
     String catalogScope;
@@ -42,6 +46,22 @@ class OracleInformationSchemaViewsBuilder
     return catalogScope;
   }
 
+  /**
+   * DDL is retrieved in bulk by default, with one DBMS_METADATA handle for each schema and object
+   * type. Retrieving DDL with a DBMS_METADATA.GET_DDL call for each object can be turned on with
+   * SC_ORACLE_DDL=per_object, which can be faster when the limit filters select only a few objects
+   * from a large schema.
+   */
+  private static boolean isPerObjectDdl() {
+    final String ddlRetrieval = new SystemPropertiesConfig().getStringValue(SC_ORACLE_DDL);
+    final boolean isPerObjectDdl = PER_OBJECT_DDL.equalsIgnoreCase(ddlRetrieval);
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Retrieving Oracle DDL <%s>", isPerObjectDdl ? "for each object" : "in bulk"));
+    return isPerObjectDdl;
+  }
+
   @Override
   public void accept(
       final InformationSchemaViewsBuilder informationSchemaViewsBuilder,
@@ -52,6 +72,10 @@ class OracleInformationSchemaViewsBuilder
     }
 
     informationSchemaViewsBuilder.fromResourceFolder("/oracle.information_schema");
+    if (isPerObjectDdl()) {
+      // Override bulk DDL queries
+      informationSchemaViewsBuilder.fromResourceFolder("/oracle.information_schema.per_object_ddl");
+    }
 
     // Check level of access
     final String catalogScope = getCatalogScope(connection);
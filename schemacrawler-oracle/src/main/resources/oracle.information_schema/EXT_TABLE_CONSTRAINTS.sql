@@ -4,24 +4,109 @@
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
 
+-- DDL is retrieved in bulk, with one DBMS_METADATA handle for each schema,
+-- instead of with a DBMS_METADATA.GET_DDL call for each row
+-- Set SC_ORACLE_DDL=per_object to use DBMS_METADATA.GET_DDL instead
+WITH
+  FUNCTION SCHEMA_DDL(
+    P_OBJECT_TYPE IN VARCHAR2,
+    P_SCHEMA IN VARCHAR2,
+    P_NAME_EXPR IN VARCHAR2)
+    RETURN SYS.KU$_DDLS
+  IS
+    L_HANDLE NUMBER;
+    L_TRANSFORM_HANDLE NUMBER;
+    L_BATCH SYS.KU$_DDLS;
+    L_DDLS SYS.KU$_DDLS := SYS.KU$_DDLS();
+    L_NAME VARCHAR2(4000);
+    L_LAST_NAME VARCHAR2(4000);
+  BEGIN
+    L_HANDLE := DBMS_METADATA.OPEN(P_OBJECT_TYPE);
+    DBMS_METADATA.SET_FILTER(L_HANDLE, 'SCHEMA', P_SCHEMA);
+    DBMS_METADATA.SET_FILTER(L_HANDLE, 'NAME_EXPR', P_NAME_EXPR);
+    DBMS_METADATA.SET_COUNT(L_HANDLE, 100);
+    DBMS_METADATA.SET_PARSE_ITEM(L_HANDLE, 'NAME');
+    -- Transform parameters, as for the session transform in schemacrawler-oracle.before.sql
+    L_TRANSFORM_HANDLE := DBMS_METADATA.ADD_TRANSFORM(L_HANDLE, 'DDL');
+    DBMS_METADATA.SET_TRANSFORM_PARAM(L_TRANSFORM_HANDLE, 'SQLTERMINATOR', TRUE);
+    DBMS_METADATA.SET_TRANSFORM_PARAM(L_TRANSFORM_HANDLE, 'EMIT_SCHEMA', FALSE);
+    DBMS_METADATA.SET_TRANSFORM_PARAM(L_TRANSFORM_HANDLE, 'SEGMENT_ATTRIBUTES', FALSE);
+    LOOP
+      L_BATCH := DBMS_METADATA.FETCH_DDL(L_HANDLE);
+      EXIT WHEN L_BATCH IS NULL;
+      FOR I IN 1 .. L_BATCH.COUNT LOOP
+        L_NAME := NULL;
+        FOR J IN 1 .. L_BATCH(I).PARSEDITEMS.COUNT LOOP
+          IF L_BATCH(I).PARSEDITEMS(J).ITEM = 'NAME' THEN
+            L_NAME := L_BATCH(I).PARSEDITEMS(J).VALUE;
+          END IF;
+        END LOOP;
+        -- Merge objects with more than one DDL statement into one definition
+        IF L_NAME = L_LAST_NAME THEN
+          L_DDLS(L_DDLS.COUNT).DDLTEXT := L_DDLS(L_DDLS.COUNT).DDLTEXT || L_BATCH(I).DDLTEXT;
+        ELSE
+          L_DDLS.EXTEND;
+          L_DDLS(L_DDLS.COUNT) := L_BATCH(I);
+          L_LAST_NAME := L_NAME;
+        END IF;
+      END LOOP;
+    END LOOP;
+    DBMS_METADATA.CLOSE(L_HANDLE);
+    RETURN L_DDLS;
+  EXCEPTION
+    WHEN OTHERS THEN
+      IF L_HANDLE IS NOT NULL THEN
+        DBMS_METADATA.CLOSE(L_HANDLE);
+      END IF;
+      RAISE;
+  END;
+  SCHEMAS AS (
+    SELECT
+      USERS.USERNAME
+    FROM
+      ${catalogscope}_USERS USERS
+    WHERE
+      USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^OPS\$ORACLE$')
+      AND REGEXP_LIKE(USERS.USERNAME, '${schema-inclusion-rule}')
+  ),
+  DDLS AS (
+    SELECT
+      SCHEMAS.USERNAME AS OWNER,
+      PARSED_ITEMS.VALUE AS OBJECT_NAME,
+      SCHEMA_DDLS.DDLTEXT AS DDL
+    FROM
+      SCHEMAS,
+      TABLE(
+        SCHEMA_DDL(
+          'CONSTRAINT',
+          SCHEMAS.USERNAME,
+          -- Only retrieve DDL for objects that pass the limit filters
+          'IN (SELECT CONSTRAINT_NAME FROM ${catalogscope}_CONSTRAINTS WHERE OWNER = '''
+            || REPLACE(SCHEMAS.USERNAME, '''', '''''')
+            || ''' AND REGEXP_LIKE(OWNER || ''.'' || TABLE_NAME, ''${table-inclusion-rule}'') AND CONSTRAINT_TYPE IN (''C'', ''U'', ''P''))')) SCHEMA_DDLS,
+      TABLE(SCHEMA_DDLS.PARSEDITEMS) PARSED_ITEMS
+    WHERE
+      PARSED_ITEMS.ITEM = 'NAME'
+  )
 SELECT
   NULL AS CONSTRAINT_CATALOG,
   CONSTRAINTS.OWNER AS CONSTRAINT_SCHEMA,
   CONSTRAINTS.CONSTRAINT_NAME,
   CONSTRAINTS.TABLE_NAME,
-  DBMS_METADATA.GET_DDL('CONSTRAINT', CONSTRAINTS.CONSTRAINT_NAME, CONSTRAINTS.OWNER) AS CONSTRAINT_DEFINITION,
+  DDLS.DDL AS CONSTRAINT_DEFINITION,
   NULL AS REMARKS
 FROM
   ${catalogscope}_CONSTRAINTS CONSTRAINTS
-  INNER JOIN ${catalogscope}_USERS USERS
-    ON CONSTRAINTS.OWNER = USERS.USERNAME
-      AND USERS.ORACLE_MAINTAINED = 'N'
-      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
-      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
-      AND NOT REGEXP_LIKE(USERS.USERNAME, '^OPS\$ORACLE$')
+  INNER JOIN SCHEMAS
+    ON CONSTRAINTS.OWNER = SCHEMAS.USERNAME
+  LEFT OUTER JOIN DDLS
+    ON CONSTRAINTS.OWNER = DDLS.OWNER
+      AND CONSTRAINTS.CONSTRAINT_NAME = DDLS.OBJECT_NAME
 WHERE
-  REGEXP_LIKE(CONSTRAINTS.OWNER, '${schema-inclusion-rule}')
-  AND REGEXP_LIKE(CONSTRAINTS.OWNER || '.' || CONSTRAINTS.TABLE_NAME, '${table-inclusion-rule}')
+  REGEXP_LIKE(CONSTRAINTS.OWNER || '.' || CONSTRAINTS.TABLE_NAME, '${table-inclusion-rule}')
   AND CONSTRAINTS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(CONSTRAINTS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
   AND CONSTRAINT_TYPE IN ('C', 'U', 'P')
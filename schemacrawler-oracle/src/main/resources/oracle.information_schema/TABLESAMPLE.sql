@@ -4,10 +4,11 @@
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
 
+-- Block level sampling, sized from the table row count
 SELECT 
   ${basiccolumns} 
 FROM 
   ${table} 
-SAMPLE(70)
+SAMPLE BLOCK(${samplepercent})
 WHERE 
   ROWNUM <= 10
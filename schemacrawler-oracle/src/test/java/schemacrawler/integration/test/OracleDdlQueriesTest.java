@@ -0,0 +1,104 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import us.fatehi.utility.IOUtility;
+
+/**
+ * Checks that queries that retrieve DDL can be parsed, since they are only run against a live
+ * Oracle database. Quoted string literals must be closed, and parentheses must balance outside of
+ * string literals and comments.
+ */
+public class OracleDdlQueriesTest {
+
+  private static void checkQuery(final String sql) {
+    int depth = 0;
+    boolean inString = false;
+    for (int i = 0; i < sql.length(); i++) {
+      final char c = sql.charAt(i);
+      if (inString) {
+        if (c == '\'') {
+          if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+            // Escaped quote
+            i++;
+          } else {
+            inString = false;
+          }
+        }
+      } else if (c == '-' && sql.startsWith("--", i)) {
+        final int endOfLine = sql.indexOf('\n', i);
+        i = endOfLine < 0 ? sql.length() : endOfLine;
+      } else if (c == '\'') {
+        inString = true;
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+        if (depth < 0) {
+          throw new IllegalArgumentException("Unbalanced parentheses at " + i);
+        }
+      }
+    }
+    if (inString) {
+      throw new IllegalArgumentException("Unterminated string literal");
+    }
+    if (depth != 0) {
+      throw new IllegalArgumentException("Unbalanced parentheses");
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "EXT_TABLES.sql",
+        "EXT_INDEXES.sql",
+        "EXT_TABLE_CONSTRAINTS.sql",
+        "CHECK_CONSTRAINTS.sql",
+        "ROUTINES.sql"
+      })
+  public void bulkDdlQueries(final String queryFile) {
+    final String sql = IOUtility.readResourceFully("/oracle.information_schema/" + queryFile);
+    assertThat(sql, containsString("DBMS_METADATA.FETCH_DDL"));
+    assertThat(sql, containsString("NAME_EXPR"));
+    checkQuery(sql);
+  }
+
+  @Test
+  public void queryChecker() {
+    checkQuery("SELECT 'It''s', '(' FROM DUAL -- ')\nWHERE (1 = 1)");
+    assertThrows(IllegalArgumentException.class, () -> checkQuery("SELECT '''')' FROM DUAL"));
+    assertThrows(IllegalArgumentException.class, () -> checkQuery("SELECT (1 FROM DUAL"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "EXT_TABLES.sql",
+        "EXT_INDEXES.sql",
+        "EXT_TABLE_CONSTRAINTS.sql",
+        "CHECK_CONSTRAINTS.sql",
+        "ROUTINES.sql"
+      })
+  public void perObjectDdlQueries(final String queryFile) {
+    final String sql =
+        IOUtility.readResourceFully("/oracle.information_schema.per_object_ddl/" + queryFile);
+    assertThat(sql, not(containsString("DBMS_METADATA.FETCH_DDL")));
+    assertThat(sql.isBlank(), is(false));
+    checkQuery(sql);
+  }
+}
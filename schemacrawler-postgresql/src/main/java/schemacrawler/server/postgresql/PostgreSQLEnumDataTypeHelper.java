@@ -10,15 +10,15 @@
 package schemacrawler.server.postgresql;
 
 import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
-import static us.fatehi.utility.database.DatabaseUtility.readResultsVector;
+import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import static java.util.Objects.requireNonNull;
@@ -27,36 +27,59 @@ import schemacrawler.plugin.EnumDataTypeInfo;
 import schemacrawler.plugin.EnumDataTypeInfo.EnumDataTypeTypes;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Enumerated values for PostgreSQL enum types. All enum labels are loaded with a single query the
+ * first time that they are needed, and every later lookup is answered from memory. Types are
+ * looked up by schema and type name, since types in different schemas can have the same name.
+ */
 public class PostgreSQLEnumDataTypeHelper implements EnumDataTypeHelper {
+
+  private record EnumTypeKey(String schemaName, String typeName) {
+
+    EnumTypeKey {
+      schemaName = schemaName == null ? "" : schemaName;
+      typeName = typeName == null ? "" : typeName;
+    }
+  }
+
   private static final Logger LOGGER =
       Logger.getLogger(PostgreSQLEnumDataTypeHelper.class.getName());
 
-  private static List<String> getEnumValues(
-      final ColumnDataType columnDataType, final Connection connection) {
-    requireNonNull(columnDataType, "No column provided");
+  private static Map<EnumTypeKey, List<String>> loadEnumValues(final Connection connection) {
+    final Map<EnumTypeKey, List<String>> enumValues = new HashMap<>();
     final Query query =
         QueryUtility.getQueryFromResource(
-            "Get enum values for column data type", "/postgresql.information_schema/PG_ENUM.sql");
-    try (final Statement statement = connection.createStatement(); ) {
-      final ResultSet resultSet =
-          QueryUtility.executeAgainstColumnDataType(query, statement, columnDataType);
-      final List<String> enumValues = readResultsVector(resultSet, 4);
+            "Get enum values for all column data types",
+            "/postgresql.information_schema/PG_ENUM.sql");
+    try {
+      checkConnection(connection);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not obtain enumerated column values", e);
       return enumValues;
+    }
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = executeSql(statement, query.query())) {
+      while (resultSet != null && resultSet.next()) {
+        final EnumTypeKey enumTypeKey =
+            new EnumTypeKey(resultSet.getString(2), resultSet.getString(3));
+        enumValues
+            .computeIfAbsent(enumTypeKey, key -> new ArrayList<>())
+            .add(resultSet.getString(4));
+      }
     } catch (final SQLException e) {
       LOGGER.log(Level.WARNING, e, new StringFormat("Error executing <%s>", query));
     }
-    return new ArrayList<>();
+    LOGGER.log(
+        Level.CONFIG, new StringFormat("Loaded enum values for <%d> types", enumValues.size()));
+    return enumValues;
   }
 
-  private final Set<ColumnDataType> visitedDataTypes;
-
-  public PostgreSQLEnumDataTypeHelper() {
-    visitedDataTypes = ConcurrentHashMap.newKeySet();
-  }
+  private volatile Map<EnumTypeKey, List<String>> enumValuesByType;
 
   @Override
   public EnumDataTypeInfo getEnumDataTypeInfo(
@@ -64,23 +87,11 @@ public class PostgreSQLEnumDataTypeHelper implements EnumDataTypeHelper {
 
     requireNonNull(columnDataType, "No column data type provided");
 
-    if (visitedDataTypes.contains(columnDataType)) {
-      final EnumDataTypeTypes enumType;
-      if (columnDataType.isEnumerated()) {
-        enumType = EnumDataTypeTypes.enumerated_data_type;
-      } else {
-        enumType = EnumDataTypeTypes.not_enumerated;
-      }
-      return new EnumDataTypeInfo(enumType, columnDataType.getEnumValues());
-    }
-
-    try {
-      checkConnection(connection);
-    } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not obtain enumerated column values", e);
-    }
-    final List<String> enumValues = getEnumValues(columnDataType, connection);
-    visitedDataTypes.add(columnDataType);
+    final Schema schema = columnDataType.getSchema();
+    final EnumTypeKey enumTypeKey =
+        new EnumTypeKey(schema == null ? null : schema.getName(), columnDataType.getName());
+    final List<String> enumValues =
+        getEnumValuesByType(connection).getOrDefault(enumTypeKey, List.of());
 
     final EnumDataTypeTypes enumType;
     if (enumValues.isEmpty()) {
@@ -88,6 +99,21 @@ public class PostgreSQLEnumDataTypeHelper implements EnumDataTypeHelper {
     } else {
       enumType = EnumDataTypeTypes.enumerated_data_type;
     }
-    return new EnumDataTypeInfo(enumType, enumValues);
+    return new EnumDataTypeInfo(enumType, new ArrayList<>(enumValues));
+  }
+
+  private Map<EnumTypeKey, List<String>> getEnumValuesByType(final Connection connection) {
+    Map<EnumTypeKey, List<String>> loadedEnumValues = enumValuesByType;
+    if (loadedEnumValues == null) {
+      synchronized (this) {
+        loadedEnumValues = enumValuesByType;
+        if (loadedEnumValues == null) {
+          // Load once, even if loading fails, so that there is no query for each type
+          loadedEnumValues = loadEnumValues(connection);
+          enumValuesByType = loadedEnumValues;
+        }
+      }
+    }
+    return loadedEnumValues;
   }
 }
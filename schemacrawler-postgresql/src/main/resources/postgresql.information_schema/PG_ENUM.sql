@@ -16,4 +16,10 @@ FROM
   INNER JOIN pg_catalog.pg_namespace n
     ON n.oid = t.typnamespace
 WHERE
-  t.typname = '${column-data-type}'
+  n.nspname NOT IN ('pg_catalog', 'information_schema')
+  AND n.nspname NOT LIKE 'pg_toast%'
+  AND n.nspname NOT LIKE 'pg_temp_%'
+ORDER BY
+  n.nspname,
+  t.typname,
+  e.enumsortorder
@@ -4,9 +4,10 @@
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
 
+-- Block level sampling, sized from the table row count
 SELECT 
   ${basiccolumns}
 FROM 
   ${table} 
-TABLESAMPLE BERNOULLI(70)
+TABLESAMPLE SYSTEM(${samplepercent})
 LIMIT 10
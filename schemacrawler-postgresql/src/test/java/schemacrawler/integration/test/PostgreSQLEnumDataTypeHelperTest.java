@@ -9,8 +9,12 @@
 package schemacrawler.integration.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static schemacrawler.plugin.EnumDataTypeInfo.EnumDataTypeTypes.enumerated_data_type;
 import static schemacrawler.plugin.EnumDataTypeInfo.EnumDataTypeTypes.not_enumerated;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import schemacrawler.plugin.EnumDataTypeInfo;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.server.postgresql.PostgreSQLEnumDataTypeHelper;
 import schemacrawler.test.utility.DisableLogging;
 import schemacrawler.test.utility.crawl.LightTable;
@@ -53,14 +58,15 @@ public class PostgreSQLEnumDataTypeHelperTest {
   public void testGetEnumValues() throws Exception {
     final Column column = new LightTable("table").addColumn("column");
     final ColumnDataType columnDataType = enumColumnDataType();
+    final String schemaName = columnDataType.getSchema().getName();
     final Connection connection =
         mockConnection(
             new Results(
                 new String[] {"TYPE_CATALOG", "TYPE_SCHEMA", "TYPE_NAME", "ENUM_LABEL"},
                 new Object[][] {
-                  {null, "", columnDataType.getName(), "Moe"},
-                  {null, "", columnDataType.getName(), "Larry"},
-                  {null, "", columnDataType.getName(), "Curly"}
+                  {null, schemaName, columnDataType.getName(), "Moe"},
+                  {null, schemaName, columnDataType.getName(), "Larry"},
+                  {null, schemaName, columnDataType.getName(), "Curly"}
                 }));
 
     final PostgreSQLEnumDataTypeHelper helper = new PostgreSQLEnumDataTypeHelper();
@@ -88,6 +94,41 @@ public class PostgreSQLEnumDataTypeHelperTest {
     assertThat(enumValues, containsInAnyOrder("Moe", "Larry", "Curly"));
   }
 
+  @Test
+  public void testGetEnumValuesSameTypeNameInSchemas() throws Exception {
+    final Column column = new LightTable("table").addColumn("column");
+    final ColumnDataType columnDataType = enumColumnDataType();
+    final String schemaName = columnDataType.getSchema().getName();
+    final ColumnDataType otherColumnDataType = mock(ColumnDataType.class);
+    when(otherColumnDataType.getSchema())
+        .thenReturn(new SchemaReference(null, "OTHER_" + schemaName));
+    when(otherColumnDataType.getName()).thenReturn(columnDataType.getName());
+    final Connection connection =
+        mockConnection(
+            new Results(
+                new String[] {"TYPE_CATALOG", "TYPE_SCHEMA", "TYPE_NAME", "ENUM_LABEL"},
+                new Object[][] {
+                  {null, schemaName, columnDataType.getName(), "Moe"},
+                  {null, schemaName, columnDataType.getName(), "Larry"},
+                  {null, "OTHER_" + schemaName, columnDataType.getName(), "Curly"}
+                }));
+
+    final PostgreSQLEnumDataTypeHelper helper = new PostgreSQLEnumDataTypeHelper();
+
+    final EnumDataTypeInfo enumDataTypeInfo =
+        helper.getEnumDataTypeInfo(column, columnDataType, connection);
+    assertThat(enumDataTypeInfo.getType(), is(enumerated_data_type));
+    assertThat(enumDataTypeInfo.getEnumValues(), contains("Moe", "Larry"));
+
+    final EnumDataTypeInfo otherEnumDataTypeInfo =
+        helper.getEnumDataTypeInfo(column, otherColumnDataType, connection);
+    assertThat(otherEnumDataTypeInfo.getType(), is(enumerated_data_type));
+    assertThat(otherEnumDataTypeInfo.getEnumValues(), contains("Curly"));
+
+    // Enum values for all types are loaded with a single query
+    verify(connection, times(1)).createStatement();
+  }
+
   @Test
   public void testSQLException() throws Exception {
     final Column column = new LightTable("table").addColumn("column");
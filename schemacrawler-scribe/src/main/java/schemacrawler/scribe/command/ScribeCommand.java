@@ -10,6 +10,7 @@ package schemacrawler.scribe.command;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
@@ -20,8 +21,8 @@ import schemacrawler.scribe.okf.BundleDirectoryOutput;
 import schemacrawler.scribe.renderer.ScribeRenderer;
 import schemacrawler.scribe.renderer.ScribeSupport;
 import schemacrawler.tools.command.AbstractSchemaCrawlerCommand;
-import schemacrawler.tools.lint.LinterRegistry;
-import schemacrawler.tools.lint.Linters;
+import schemacrawler.tools.lint.LintResults;
+import schemacrawler.tools.lint.LintResultsCache;
 import schemacrawler.tools.lint.Lints;
 import schemacrawler.tools.lint.config.LinterConfigs;
 import schemacrawler.tools.options.Config;
@@ -66,17 +67,20 @@ public final class ScribeCommand extends AbstractSchemaCrawlerCommand<ScribeOpti
             .toOptions();
 
     final Path outputPath = getOutputOptions().getOutputFile("");
-    final Lints lints = options.isIncludeLint() ? runLint() : new Lints(List.of());
+    final Lints lints =
+        options.isIncludeLint() ? runLint(options.getMaxLintConnections()) : new Lints(List.of());
     final ScribeSupport support = new ScribeSupport(this, options, lints);
 
     final ScribeRenderer renderer = lookupRenderer(outputFormat);
 
+    final long renderStart = System.nanoTime();
     try (final BundleDirectoryOutput outputDirectory =
         new BundleDirectoryOutput(outputPath, options.isExpandedOutput())) {
       renderer.render(support, outputDirectory);
     } catch (final Exception e) {
       throw new ExecutionRuntimeException("Could not generate Scribe report", e);
     }
+    logPhase("rendering and bundling", renderStart);
 
     LOGGER.log(Level.INFO, new StringFormat("Generated Scribe report at <%s>", outputPath));
   }
@@ -87,19 +91,29 @@ public final class ScribeCommand extends AbstractSchemaCrawlerCommand<ScribeOpti
     return getCommandOptions() != null && getCommandOptions().isIncludeLint();
   }
 
+  private void logPhase(final String phase, final long start) {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Scribe %s took %d ms",
+            phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+  }
+
   private ScribeRenderer lookupRenderer(final String outputFormat) {
     final ScribeOutputFormat scribeOutputFormat = ScribeOutputFormat.fromFormat(outputFormat);
     return scribeOutputFormat.newRenderer();
   }
 
-  private Lints runLint() {
+  private Lints runLint(final int maxLintConnections) {
+    final long lintStart = System.nanoTime();
     final Config config = ConfigUtility.newConfig();
     final LinterConfigs linterConfigs = new LinterConfigs(config);
-    final Linters linters = new Linters(linterConfigs, true);
-    final LinterRegistry registry = LinterRegistry.getRegistry();
-    linters.initialize(registry);
-    transferState(linters);
-    linters.lint();
-    return linters.getLints();
+    // The connection limit is the number of Scribe threads, unless overridden, and also bounds the
+    // connections used to count rows for empty tables. Lints from an earlier lint or Scribe run on
+    // the same catalog are reused, since the limit is not part of the cache key.
+    final LintResults lintResults =
+        LintResultsCache.lint(this, linterConfigs, true, maxLintConnections);
+    logPhase("lint", lintStart);
+    return lintResults.getLints();
   }
 }
@@ -55,7 +55,18 @@ public final class ScribeCommandProvider extends AbstractSchemaCrawlerCommandPro
             "expanded-output",
             Boolean.class,
             "Whether to write the report as expanded files and folders instead of a single ZIP "
-                + "archive");
+                + "archive")
+        .addOption(
+            "threads",
+            Integer.class,
+            "Number of worker threads used to render report pages, and the number of database "
+                + "connections used for lint, including row counts; "
+                + "the default is the number of available processors")
+        .addOption(
+            "max-lint-connections",
+            Integer.class,
+            "Maximum number of database connections that linters can use at the same time, "
+                + "overriding the number of threads; the default is the number of threads");
     return pluginCommand;
   }
 
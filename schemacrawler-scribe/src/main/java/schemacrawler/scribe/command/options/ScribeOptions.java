@@ -20,17 +20,29 @@ public final class ScribeOptions implements CommandOptions {
   private final boolean expandedOutput;
   private final boolean includeLint;
   private final Locale locale;
+  private final int maxLintConnections;
+  private final int threads;
   private final String title;
 
   ScribeOptions(
       final String title,
       final boolean includeLint,
       final Locale locale,
-      final boolean expandedOutput) {
+      final boolean expandedOutput,
+      final int threads,
+      final int maxLintConnections) {
     this.title = requireNonNull(title, "No title provided");
     this.includeLint = includeLint;
     this.locale = locale == null ? Locale.getDefault() : locale;
     this.expandedOutput = expandedOutput;
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+    this.threads = threads;
+    if (maxLintConnections < 0) {
+      throw new IllegalArgumentException("Number of lint connections must not be negative");
+    }
+    this.maxLintConnections = maxLintConnections;
   }
 
   @Override
@@ -44,6 +56,8 @@ public final class ScribeOptions implements CommandOptions {
     final ScribeOptions other = (ScribeOptions) obj;
     return includeLint == other.includeLint
         && expandedOutput == other.expandedOutput
+        && threads == other.threads
+        && maxLintConnections == other.maxLintConnections
         && Objects.equals(locale, other.locale)
         && Objects.equals(title, other.title);
   }
@@ -57,6 +71,27 @@ public final class ScribeOptions implements CommandOptions {
     return locale;
   }
 
+  /**
+   * Gets the maximum number of database connections that linters, including the row counts for
+   * empty tables, can use at the same time when lint results are included in the report. This is
+   * the number of threads, unless a limit on lint connections was set.
+   *
+   * @return Maximum number of lint connections
+   */
+  public int getMaxLintConnections() {
+    return hasMaxLintConnections() ? maxLintConnections : threads;
+  }
+
+  /**
+   * Gets the number of worker threads used to render report pages, which also bounds the database
+   * connections used for lint.
+   *
+   * @return Number of worker threads
+   */
+  public int getThreads() {
+    return threads;
+  }
+
   /**
    * Gets the report title.
    *
@@ -69,7 +104,21 @@ public final class ScribeOptions implements CommandOptions {
   @Override
   public int hashCode() {
     return Objects.hash(
-        Boolean.valueOf(includeLint), Boolean.valueOf(expandedOutput), locale, title);
+        Boolean.valueOf(includeLint),
+        Boolean.valueOf(expandedOutput),
+        locale,
+        Integer.valueOf(threads),
+        Integer.valueOf(maxLintConnections),
+        title);
+  }
+
+  /**
+   * Whether a limit on lint connections was set, overriding the number of threads.
+   *
+   * @return Whether a limit on lint connections was set
+   */
+  boolean hasMaxLintConnections() {
+    return maxLintConnections > 0;
   }
 
   /**
@@ -8,10 +8,13 @@
 
 package schemacrawler.scribe.command.options;
 
+import static schemacrawler.tools.command.lint.options.LintOptionsBuilder.CLI_MAX_LINT_CONNECTIONS;
+import static schemacrawler.tools.command.lint.options.LintOptionsBuilder.MAX_LINT_CONNECTIONS;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
 import java.util.Locale;
+import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.ConfigOptionsBuilder;
 import schemacrawler.tools.options.ConfigUtility;
@@ -27,10 +30,15 @@ public final class ScribeOptionsBuilder
   private static final String CLI_EXPANDED_OUTPUT = "expanded-output";
   private static final String CLI_INCLUDE_LINT = "include-lint";
   private static final String CLI_LANGUAGE = "language";
+  private static final String CLI_THREADS = "threads";
 
   private static final String EXPANDED_OUTPUT = SCHEMACRAWLER_SCRIBE + CLI_EXPANDED_OUTPUT;
   private static final String INCLUDE_LINT = SCHEMACRAWLER_SCRIBE + CLI_INCLUDE_LINT;
   private static final String LANGUAGE = SCHEMACRAWLER_SCRIBE + CLI_LANGUAGE;
+  private static final String THREADS = SCHEMACRAWLER_SCRIBE + CLI_THREADS;
+  private static int defaultThreads() {
+    return Runtime.getRuntime().availableProcessors();
+  }
 
   /**
    * Creates a new builder, with the default option values.
@@ -53,7 +61,8 @@ public final class ScribeOptionsBuilder
   private boolean expandedOutput;
   private boolean includeLint;
   private Locale locale;
-
+  private int maxLintConnections;
+  private int threads;
   private String title;
 
   private ScribeOptionsBuilder() {
@@ -62,6 +71,9 @@ public final class ScribeOptionsBuilder
     locale = Locale.getDefault();
     title = "";
     expandedOutput = false;
+    threads = defaultThreads();
+    // Use the number of threads as the lint connection limit
+    maxLintConnections = 0;
   }
 
   /** {@inheritDoc} */
@@ -76,6 +88,15 @@ public final class ScribeOptionsBuilder
     locale = isBlank(languageTag) ? Locale.getDefault() : Locale.forLanguageTag(languageTag);
     expandedOutput =
         config.getBooleanValue(resolveKey(config, CLI_EXPANDED_OUTPUT, EXPANDED_OUTPUT), false);
+    withThreads(config.getIntegerValue(resolveKey(config, CLI_THREADS, THREADS), defaultThreads()));
+    // A lint connection limit, set with the same keys as for the lint command, overrides the
+    // number of threads
+    if (config.containsKey(CLI_MAX_LINT_CONNECTIONS) || config.containsKey(MAX_LINT_CONNECTIONS)) {
+      maxLintConnections =
+          LintOptionsBuilder.builder().fromConfig(config).toOptions().getMaxLintConnections();
+    } else {
+      maxLintConnections = 0;
+    }
     return this;
   }
 
@@ -89,6 +110,8 @@ public final class ScribeOptionsBuilder
     includeLint = options.isIncludeLint();
     locale = options.getLocale();
     expandedOutput = options.isExpandedOutput();
+    threads = options.getThreads();
+    maxLintConnections = options.hasMaxLintConnections() ? options.getMaxLintConnections() : 0;
     return this;
   }
 
@@ -99,13 +122,18 @@ public final class ScribeOptionsBuilder
     config.put(INCLUDE_LINT, includeLint);
     config.put(LANGUAGE, locale.toLanguageTag());
     config.put(EXPANDED_OUTPUT, expandedOutput);
+    config.put(THREADS, threads);
+    if (maxLintConnections > 0) {
+      config.put(MAX_LINT_CONNECTIONS, maxLintConnections);
+    }
     return config;
   }
 
   /** {@inheritDoc} */
   @Override
   public ScribeOptions toOptions() {
-    return new ScribeOptions(title, includeLint, locale, expandedOutput);
+    return new ScribeOptions(
+        title, includeLint, locale, expandedOutput, threads, maxLintConnections);
   }
 
   /**
@@ -141,6 +169,32 @@ public final class ScribeOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the maximum number of database connections that linters can use at the same time,
+   * overriding the number of threads. Values that are not positive reset the limit to the number of
+   * threads.
+   *
+   * @param value Maximum number of lint connections
+   * @return Builder
+   */
+  public ScribeOptionsBuilder withMaxLintConnections(final int value) {
+    maxLintConnections = Math.max(0, value);
+    return this;
+  }
+
+  /**
+   * Sets the number of worker threads used to render report pages, which also bounds the database
+   * connections used for lint. Values that are not positive reset the number of threads to the
+   * number of available processors.
+   *
+   * @param value Number of worker threads
+   * @return Builder
+   */
+  public ScribeOptionsBuilder withThreads(final int value) {
+    threads = value > 0 ? value : defaultThreads();
+    return this;
+  }
+
   /**
    * Sets the report title.
    *
@@ -16,12 +16,12 @@ import java.util.List;
 
 /**
  * Maps SchemaSpy output options to SchemaCrawler {@code --command}, {@code --output-format}, {@code
- * --output-file}, and {@code --language} argument tokens.
+ * --output-file}, {@code --language}, and {@code --threads} argument tokens.
  */
 final class ExecuteArgsMapper {
 
   /** Input record for execute/output options. */
-  record ExecuteArgs(String outputPath, String locale) {}
+  record ExecuteArgs(String outputPath, String locale, Integer threads) {}
 
   private final ExecuteArgs input;
 
@@ -33,7 +33,9 @@ final class ExecuteArgsMapper {
    * Returns argument tokens for the SchemaCrawler execute/output group.
    *
    * <p>Covers: {@code --command}, {@code --output-format}, {@code --output-file}, {@code
-   * --language}.
+   * --language}, {@code --threads}. The SchemaSpy database thread count is used as the number of
+   * Scribe threads, which bounds the database connections used for lint and row counts, as well as
+   * the threads used to render report pages.
    *
    * @return execute/output argument tokens
    */
@@ -49,6 +51,10 @@ final class ExecuteArgsMapper {
       args.add("--language");
       args.add(input.locale());
     }
+    if (input.threads() != null && input.threads() > 0) {
+      args.add("--threads");
+      args.add(String.valueOf(input.threads()));
+    }
     return args;
   }
 }
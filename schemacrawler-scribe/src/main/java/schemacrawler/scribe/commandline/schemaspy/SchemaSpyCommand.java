@@ -198,7 +198,7 @@ public final class SchemaSpyCommand implements Runnable {
         new LimitArgsMapper.LimitArgs(
             catalog, schema, schemas, schemaRegex, includeTableRegex, excludeTableRegex),
         new LoadArgsMapper.LoadArgs(noRows),
-        new ExecuteArgsMapper.ExecuteArgs(outputPath, locale));
+        new ExecuteArgsMapper.ExecuteArgs(outputPath, locale, databaseThreads));
   }
 
   private int runSchemaCrawler() {
@@ -16,7 +16,6 @@ import java.util.Comparator;
 import java.util.List;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.DatabaseObject;
-import schemacrawler.schema.ReferencingObject;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.Table;
 import schemacrawler.scribe.renderer.ScribeSupport;
@@ -63,7 +62,7 @@ public final class CrossReferenceModelFactory {
 
     final List<CrossReferenceEntry> entries = new ArrayList<>();
     for (final DatabaseObject sourceObject : sourceObjects) {
-      final List<DatabaseObject> usedByObjects = usedBy(sourceObject, sourceObjects);
+      final List<DatabaseObject> usedByObjects = usedBy(support, sourceObject);
       if (usedByObjects.isEmpty()) {
         continue;
       }
@@ -75,27 +74,13 @@ public final class CrossReferenceModelFactory {
     return List.copyOf(entries);
   }
 
-  private List<DatabaseObject> routineUsedBy(
-      final Routine routine, final List<DatabaseObject> candidates) {
-    final List<DatabaseObject> usedBy = new ArrayList<>();
-    for (final DatabaseObject candidate : candidates) {
-      if (!(candidate instanceof final ReferencingObject referencingObject)) {
-        continue;
-      }
-      if (referencingObject.getReferencedObjects().contains(routine)) {
-        usedBy.add(candidate);
-      }
-    }
-    return List.copyOf(usedBy);
-  }
-
-  private List<DatabaseObject> usedBy(
-      final DatabaseObject source, final List<DatabaseObject> candidates) {
+  private List<DatabaseObject> usedBy(final ScribeSupport support, final DatabaseObject source) {
     final List<DatabaseObject> usedBy = new ArrayList<>();
     if (source instanceof final Table table) {
       usedBy.addAll(table.getUsedByObjects());
     } else if (source instanceof Routine) {
-      usedBy.addAll(routineUsedBy((Routine) source, candidates));
+      // Routines do not track their callers, so look them up in the precomputed index
+      usedBy.addAll(support.referencedBy(source));
     }
     usedBy.removeIf(databaseObject -> databaseObject == null || source.equals(databaseObject));
     usedBy.sort(Comparator.comparing(DatabaseObject::getFullName));
@@ -16,42 +16,39 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import us.fatehi.utility.IOUtility;
-import us.fatehi.utility.ioresource.FileOutputResource;
-import us.fatehi.utility.ioresource.OutputResource;
 import us.fatehi.utility.string.StringFormat;
 
 /**
- * An output resource rooted at a directory. Each call to {@link #toWrite(String)} returns a new
- * {@link OutputResource} for the given relative path; the writer creates all necessary parent
- * directories before opening the file.
+ * Output for a Scribe bundle, either as a directory tree, or as a ZIP file. Entries are written
+ * with {@link #writeEntry(String, byte[])}, which is safe to call from multiple threads. For
+ * expanded output, each entry is written to a file under the root directory. For ZIP output,
+ * entries are streamed straight into the ZIP file by a single writer thread, without a temporary
+ * directory, in the order that they are written. Small entries, and entries that are already
+ * compressed, are stored without compression.
  */
 public final class BundleDirectoryOutput implements Closeable {
 
   private static final Logger LOGGER = Logger.getLogger(BundleDirectoryOutput.class.getName());
 
-  private static void deleteDirectory(final Path dir) {
-    try (final var paths = Files.walk(dir)) {
-      paths
-          .sorted(Comparator.reverseOrder())
-          .forEach(
-              path -> {
-                try {
-                  Files.deleteIfExists(path);
-                } catch (final IOException e) {
-                  // Best-effort cleanup; log but don't rethrow
-                  LOGGER.log(Level.WARNING, new StringFormat("Could not delete <%s>", path));
-                }
-              });
-    } catch (final IOException e) {
-      LOGGER.log(Level.WARNING, new StringFormat("Could not clean up temp directory <%s>", dir));
-    }
-  }
+  // Limit the number of rendered entries waiting to be written into the ZIP file
+  private static final int MAX_PENDING_ENTRIES = 64;
+  // Deflating very small entries does not save space
+  private static final int MIN_DEFLATED_SIZE = 256;
+  private static final Set<String> COMPRESSED_EXTENSIONS =
+      Set.of("gif", "gz", "jpeg", "jpg", "png", "webp", "zip");
 
   private static Path ensureZipExtension(final Path outputPath) {
     if ("zip".equals(IOUtility.getFileExtension(outputPath))) {
@@ -60,38 +57,50 @@ public final class BundleDirectoryOutput implements Closeable {
     return outputPath.resolveSibling(outputPath.getFileName() + ".zip");
   }
 
-  private static void zipDirectory(final Path sourceDir, final Path zipFile) throws IOException {
-    LOGGER.log(Level.INFO, new StringFormat("Writing Scribe report to ZIP file <%s>", zipFile));
-    final Path parent = zipFile.getParent();
-    if (parent != null) {
-      Files.createDirectories(parent);
+  private static boolean isStored(final String entryName, final byte[] content) {
+    if (content.length < MIN_DEFLATED_SIZE) {
+      return true;
     }
-    try (final ZipOutputStream zout =
-        new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipFile)))) {
-      try (final var paths = Files.walk(sourceDir)) {
-        paths
-            .filter(Files::isRegularFile)
-            .forEach(
-                path -> {
-                  final String entryName = sourceDir.relativize(path).toString().replace('\\', '/');
-                  try {
-                    zout.putNextEntry(new ZipEntry(entryName));
-                    Files.copy(path, zout);
-                    zout.closeEntry();
-                  } catch (final IOException e) {
-                    throw new UncheckedIOException(e);
-                  }
-                });
-      }
+    final int extensionIndex = entryName.lastIndexOf('.');
+    if (extensionIndex < 0) {
+      return false;
+    }
+    final String extension = entryName.substring(extensionIndex + 1).toLowerCase(Locale.ENGLISH);
+    return COMPRESSED_EXTENSIONS.contains(extension);
+  }
+
+  private static ZipEntry newZipEntry(final String entryName, final byte[] content) {
+    final ZipEntry zipEntry = new ZipEntry(entryName);
+    if (isStored(entryName, content)) {
+      final CRC32 crc = new CRC32();
+      crc.update(content);
+      zipEntry.setMethod(ZipEntry.STORED);
+      zipEntry.setSize(content.length);
+      zipEntry.setCompressedSize(content.length);
+      zipEntry.setCrc(crc.getValue());
     }
+    return zipEntry;
+  }
+
+  private static String toZipEntryName(final String relativePath) {
+    final Path entryPath = Path.of(relativePath).normalize();
+    if (entryPath.isAbsolute() || entryPath.startsWith("..") || entryPath.toString().isEmpty()) {
+      throw new UncheckedIOException(
+          new IOException("Entry <%s> is outside the bundle".formatted(relativePath)));
+    }
+    return entryPath.toString().replace('\\', '/');
   }
 
   private final Path rootDirectory;
   private final Path outputPath;
   private final boolean expandedOutput;
+  private final ZipOutputStream zipOut;
+  private final ExecutorService zipWriter;
+  private final Semaphore pendingEntries;
+  private volatile IOException zipException;
 
   /**
-   * Creates a directory output resource rooted at the given directory.
+   * Creates an output for a Scribe bundle.
    *
    * @param outputPath Output path for the bundle (zip file path or expanded output directory path)
    * @param expandedOutput Whether output should be in directories and files rather than zipped
@@ -105,47 +114,103 @@ public final class BundleDirectoryOutput implements Closeable {
     if (expandedOutput) {
       this.outputPath = outputPath.toAbsolutePath();
       rootDirectory = outputPath;
+      zipOut = null;
+      zipWriter = null;
+      pendingEntries = null;
+      LOGGER.log(Level.INFO, new StringFormat("Scribe bundle rooted at <%s>", rootDirectory));
     } else {
       final Path zipFilePath = ensureZipExtension(outputPath).toAbsolutePath();
       this.outputPath = zipFilePath;
-      rootDirectory = Files.createTempDirectory("scribe-");
+      rootDirectory = null;
+      final Path parent = zipFilePath.getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipFilePath)));
+      zipWriter = Executors.newSingleThreadExecutor();
+      pendingEntries = new Semaphore(MAX_PENDING_ENTRIES);
+      LOGGER.log(
+          Level.INFO, new StringFormat("Writing Scribe report to ZIP file <%s>", zipFilePath));
     }
-    LOGGER.log(Level.INFO, new StringFormat("Scribe bundle rooted at <%s>", rootDirectory));
   }
 
   @Override
   public void close() throws IOException {
     if (expandedOutput) {
       LOGGER.log(Level.INFO, new StringFormat("Scribe bundle created in <%s>", outputPath));
-    } else {
-      try {
-        zipDirectory(rootDirectory, outputPath);
-      } finally {
-        if (rootDirectory != null && Files.exists(rootDirectory)) {
-          deleteDirectory(rootDirectory);
-        }
+      return;
+    }
+
+    try {
+      zipWriter.shutdown();
+      if (!zipWriter.awaitTermination(1, TimeUnit.HOURS)) {
+        throw new IOException("Timed out writing ZIP file <%s>".formatted(outputPath));
       }
-      LOGGER.log(Level.INFO, new StringFormat("Scribe bundle zipped into <%s>", outputPath));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted writing ZIP file <%s>".formatted(outputPath), e);
+    } finally {
+      zipOut.close();
+    }
+    if (zipException != null) {
+      throw zipException;
     }
+    LOGGER.log(Level.INFO, new StringFormat("Scribe bundle zipped into <%s>", outputPath));
   }
 
   @Override
   public String toString() {
-    return rootDirectory.toString();
+    return outputPath.toString();
   }
 
   /**
-   * Resolves a relative path under the root directory and returns an {@link OutputResource} that
-   * creates all necessary parent directories before opening a writer.
+   * Writes an entry into the bundle. For ZIP output, the entry is queued for the writer thread, and
+   * the caller blocks only if too many entries are waiting to be written. Safe to call from
+   * multiple threads, but entries are only in a predictable order in the ZIP file if they are
+   * written from one thread.
    *
-   * @param relativePath Path of the entry, relative to the root directory
-   * @return Output resource for the resolved file
-   * @throws IOException
+   * @param relativePath Path of the entry, relative to the root of the bundle
+   * @param content Entry content
    */
-  public OutputResource toWrite(final String relativePath) throws IOException {
+  public void writeEntry(final String relativePath, final byte[] content) {
     requireNonNull(relativePath, "No relative path provided");
-    final Path filePath = IOUtility.sanitizeFilePath(rootDirectory, relativePath);
-    Files.createDirectories(filePath.getParent());
-    return new FileOutputResource(filePath);
+    requireNonNull(content, "No content provided");
+
+    if (expandedOutput) {
+      try {
+        final Path filePath = IOUtility.sanitizeFilePath(rootDirectory, relativePath);
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, content);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return;
+    }
+
+    final String entryName = toZipEntryName(relativePath);
+    if (zipException != null) {
+      throw new UncheckedIOException(zipException);
+    }
+    try {
+      pendingEntries.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted writing <%s>".formatted(entryName), e);
+    }
+    zipWriter.execute(
+        () -> {
+          try {
+            if (zipException == null) {
+              zipOut.putNextEntry(newZipEntry(entryName, content));
+              zipOut.write(content);
+              zipOut.closeEntry();
+            }
+          } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, e, new StringFormat("Could not write <%s>", entryName));
+            zipException = e;
+          } finally {
+            pendingEntries.release();
+          }
+        });
   }
 }
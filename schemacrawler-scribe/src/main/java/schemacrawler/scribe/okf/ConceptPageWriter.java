@@ -10,17 +10,36 @@ package schemacrawler.scribe.okf;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.scribe.renderer.ScribeSupport;
+import us.fatehi.utility.string.StringFormat;
 
 /** Writes OKF concept pages for tables/views and routines. */
 public final class ConceptPageWriter {
 
+  private record RenderedPage(String relativePath, byte[] content) {}
+
+  private static final Logger LOGGER = Logger.getLogger(ConceptPageWriter.class.getName());
+
+  // Limit the number of rendered pages waiting to be written, for each render thread
+  private static final int PENDING_PAGES_PER_THREAD = 4;
+
   private final ScribeSupport support;
   private final TemplateRenderer templateRenderer;
 
@@ -34,29 +53,75 @@ public final class ConceptPageWriter {
     this.templateRenderer = requireNonNull(templateRenderer, "No template renderer provided");
   }
 
+  /**
+   * Writes concept pages for all tables and routines. Pages are rendered in parallel, on up to the
+   * configured number of Scribe threads, a bounded number of pages ahead of the page that is being
+   * written. Pages are written to the bundle in page order, so that the bundle is the same on every
+   * run.
+   *
+   * @throws SchemaCrawlerException On an exception writing pages
+   */
   public void writeConceptPages() throws SchemaCrawlerException {
+    final List<Callable<RenderedPage>> pageRenderers = new ArrayList<>();
     for (final Table table : support.allTables()) {
-      writeTableConcept(table);
+      pageRenderers.add(() -> renderTableConcept(table));
     }
-
     final List<Routine> routines = support.allRoutines();
     for (final Routine routine : routines) {
-      writeRoutineConcept(routine);
+      pageRenderers.add(() -> renderRoutineConcept(routine));
+    }
+    if (pageRenderers.isEmpty()) {
+      return;
+    }
+
+    final int threads = Math.min(support.renderThreads(), pageRenderers.size());
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat("Writing %d concept pages on %d threads", pageRenderers.size(), threads));
+
+    final int maxPendingPages = threads * PENDING_PAGES_PER_THREAD;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final Deque<Future<RenderedPage>> pendingPages = new ArrayDeque<>(maxPendingPages);
+      for (final Callable<RenderedPage> pageRenderer : pageRenderers) {
+        if (pendingPages.size() >= maxPendingPages) {
+          writePage(awaitPage(pendingPages.removeFirst()));
+        }
+        pendingPages.addLast(executor.submit(pageRenderer));
+      }
+      while (!pendingPages.isEmpty()) {
+        writePage(awaitPage(pendingPages.removeFirst()));
+      }
+    } finally {
+      executor.shutdownNow();
     }
   }
 
   public void writeRoutineConcept(final Routine routine) throws SchemaCrawlerException {
-    final String resourcePath = "routines/" + routine.key().slug() + ".md";
-    final Map<String, Object> model = newModel(resourcePath);
-    model.put("routine", routine);
-    templateRenderer.writeTemplate("routine-concept.ftl", model, resourcePath);
+    writePage(renderRoutineConcept(routine));
   }
 
   public void writeTableConcept(final Table table) throws SchemaCrawlerException {
-    final String resourcePath = "tables/" + table.key().slug() + ".md";
-    final Map<String, Object> model = newModel(resourcePath);
-    model.put("table", table);
-    templateRenderer.writeTemplate("table-concept.ftl", model, resourcePath);
+    writePage(renderTableConcept(table));
+  }
+
+  private RenderedPage awaitPage(final Future<RenderedPage> future)
+      throws SchemaCrawlerException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while writing concept pages", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final SchemaCrawlerException schemaCrawlerException) {
+        throw schemaCrawlerException;
+      }
+      if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ExecutionRuntimeException("Could not write concept page", cause);
+    }
   }
 
   private Map<String, Object> newModel(final String resourcePath) {
@@ -71,4 +136,24 @@ public final class ConceptPageWriter {
     model.put("resourcePath", resourcePath);
     return model;
   }
+
+  private RenderedPage renderRoutineConcept(final Routine routine) {
+    final String resourcePath = "routines/" + routine.key().slug() + ".md";
+    final Map<String, Object> model = newModel(resourcePath);
+    model.put("routine", routine);
+    return new RenderedPage(
+        resourcePath, templateRenderer.renderTemplate("routine-concept.ftl", model));
+  }
+
+  private RenderedPage renderTableConcept(final Table table) {
+    final String resourcePath = "tables/" + table.key().slug() + ".md";
+    final Map<String, Object> model = newModel(resourcePath);
+    model.put("table", table);
+    return new RenderedPage(
+        resourcePath, templateRenderer.renderTemplate("table-concept.ftl", model));
+  }
+
+  private void writePage(final RenderedPage page) {
+    templateRenderer.writePage(page.relativePath(), page.content());
+  }
 }
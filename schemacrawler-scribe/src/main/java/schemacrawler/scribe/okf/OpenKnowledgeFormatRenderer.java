@@ -8,23 +8,42 @@
 
 package schemacrawler.scribe.okf;
 
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.scribe.renderer.ScribeRenderer;
 import schemacrawler.scribe.renderer.ScribeSupport;
+import us.fatehi.utility.string.StringFormat;
 
 /** Renders a Google OKF (Open Knowledge Framework) Markdown bundle. */
 public final class OpenKnowledgeFormatRenderer implements ScribeRenderer {
 
+  private static final Logger LOGGER =
+      Logger.getLogger(OpenKnowledgeFormatRenderer.class.getName());
+
   @Override
   public void render(final ScribeSupport support, final BundleDirectoryOutput outputDirectory)
       throws SchemaCrawlerException {
 
     final TemplateRenderer templateRenderer = new TemplateRenderer(outputDirectory);
 
+    final long conceptPagesStart = System.nanoTime();
     final ConceptPageWriter conceptPageWriter = new ConceptPageWriter(support, templateRenderer);
     conceptPageWriter.writeConceptPages();
+    logPhase("concept pages", conceptPagesStart);
 
+    final long reportPagesStart = System.nanoTime();
     final ReportPageWriter reportPageWriter = new ReportPageWriter(support, templateRenderer);
     reportPageWriter.writeReportAndIndexPages();
+    logPhase("report pages", reportPagesStart);
+  }
+
+  private void logPhase(final String phase, final long start) {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Scribe %s took %d ms",
+            phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
   }
 }
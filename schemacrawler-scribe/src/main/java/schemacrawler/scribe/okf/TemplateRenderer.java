@@ -20,7 +20,7 @@ import freemarker.template.TemplateExceptionHandler;
 import freemarker.template.TemplateNotFoundException;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -43,16 +43,46 @@ public final class TemplateRenderer {
     configuration = createFreemarkerConfiguration();
   }
 
-  public void writeTemplate(
-      final String templateName, final Map<String, Object> model, final String relativePath) {
-    try (final Writer writer =
-        outputDirectory.toWrite(relativePath).openNewOutputWriter(UTF_8, false)) {
+  /**
+   * Renders a template into memory. Safe to call from multiple threads.
+   *
+   * @param templateName Name of the template
+   * @param model Template model
+   * @return Rendered page
+   */
+  public byte[] renderTemplate(final String templateName, final Map<String, Object> model) {
+    final StringWriter writer = new StringWriter(8192);
+    try {
       final Template template = configuration.getTemplate(templateName);
       template.process(model, writer);
     } catch (final IOException | TemplateException e) {
       throw new ExecutionRuntimeException(
           new StringFormat("Could not render template <%s>", templateName).get(), e);
     }
+    return writer.toString().getBytes(UTF_8);
+  }
+
+  /**
+   * Writes a rendered page to the bundle. Pages are added to the bundle in the order that they are
+   * written.
+   *
+   * @param relativePath Path of the page, relative to the root of the bundle
+   * @param content Rendered page
+   */
+  public void writePage(final String relativePath, final byte[] content) {
+    outputDirectory.writeEntry(relativePath, content);
+  }
+
+  /**
+   * Renders a template into memory, and writes the rendered page to the bundle.
+   *
+   * @param templateName Name of the template
+   * @param model Template model
+   * @param relativePath Path of the page, relative to the root of the bundle
+   */
+  public void writeTemplate(
+      final String templateName, final Map<String, Object> model, final String relativePath) {
+    writePage(relativePath, renderTemplate(templateName, model));
   }
 
   private Configuration createFreemarkerConfiguration() {
@@ -0,0 +1,68 @@
+/*
+ * SchemaCrawler Scribe
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package schemacrawler.scribe.renderer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.ReferencingObject;
+
+/**
+ * Inverted index of the objects that reference each table or routine, built in a single pass over
+ * the referenced objects of every table and routine in the catalog. Referencing objects are kept
+ * in catalog order, tables first and then routines.
+ */
+final class ReferencesIndex {
+
+  private final Map<NamedObjectKey, List<DatabaseObject>> referencedByObject;
+
+  ReferencesIndex(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<DatabaseObject> referencingObjects = new ArrayList<>();
+    referencingObjects.addAll(catalog.getTables());
+    referencingObjects.addAll(catalog.getRoutines());
+
+    final Map<NamedObjectKey, Set<DatabaseObject>> referencedBy = new HashMap<>();
+    for (final DatabaseObject referencingObject : referencingObjects) {
+      if (!(referencingObject instanceof final ReferencingObject referencing)) {
+        continue;
+      }
+      for (final DatabaseObject referencedObject : referencing.getReferencedObjects()) {
+        if (referencedObject == null) {
+          continue;
+        }
+        referencedBy
+            .computeIfAbsent(referencedObject.key(), key -> new LinkedHashSet<>())
+            .add(referencingObject);
+      }
+    }
+
+    final Map<NamedObjectKey, List<DatabaseObject>> index = new HashMap<>();
+    for (final Map.Entry<NamedObjectKey, Set<DatabaseObject>> entry : referencedBy.entrySet()) {
+      index.put(entry.getKey(), List.copyOf(entry.getValue()));
+    }
+    referencedByObject = Map.copyOf(index);
+  }
+
+  Collection<DatabaseObject> referencedBy(final DatabaseObject databaseObject) {
+    if (databaseObject == null) {
+      return List.of();
+    }
+    return referencedByObject.getOrDefault(databaseObject.key(), List.of());
+  }
+}
@@ -27,6 +27,7 @@ import schemacrawler.loader.ermodel.summary.ERModelStatsUtility;
 import schemacrawler.loader.utility.TableRowCountsUtility;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.Table;
@@ -51,12 +52,16 @@ public final class ScribeSupport extends AbstractTextSupport {
   private final ScribeMessages messages;
   private final ScribeOptions options;
   private final RelationshipsIndex relationsIndex;
+  private final ReferencesIndex referencesIndex;
+  private final List<Table> allTables;
+  private final List<Routine> allRoutines;
   private final CatalogStats catalogStats;
   private final ERModelStats erModelStats;
 
   /**
    * Creates the Scribe support instance, transferring catalog, ER model, and connection state from
-   * the given execution state, and building the cross-reference maps once.
+   * the given execution state, and building the cross-reference maps, and sorted lists of tables
+   * and routines once.
    *
    * @param executionState Execution state providing the catalog and ER model
    * @param options Scribe options
@@ -72,6 +77,9 @@ public final class ScribeSupport extends AbstractTextSupport {
     final ERModel erModel = getERModel();
 
     relationsIndex = new RelationshipsIndex(catalog);
+    referencesIndex = new ReferencesIndex(catalog);
+    allTables = sortedByFullName(catalog.getTables());
+    allRoutines = sortedByFullName(catalog.getRoutines());
     catalogStats = CatalogStatsUtility.from(catalog);
     if (erModel != null) {
       erModelStats = ERModelStatsUtility.from(erModel);
@@ -88,9 +96,7 @@ public final class ScribeSupport extends AbstractTextSupport {
    * @return Sorted routines
    */
   public List<Routine> allRoutines() {
-    final List<Routine> routines = new ArrayList<>(getCatalog().getRoutines());
-    routines.sort(Comparator.comparing(Routine::getFullName));
-    return List.copyOf(routines);
+    return allRoutines;
   }
 
   /**
@@ -99,9 +105,7 @@ public final class ScribeSupport extends AbstractTextSupport {
    * @return Sorted tables and views
    */
   public List<Table> allTables() {
-    final List<Table> tables = new ArrayList<>(getCatalog().getTables());
-    tables.sort(Comparator.comparing(Table::getFullName));
-    return List.copyOf(tables);
+    return allTables;
   }
 
   /**
@@ -260,6 +264,17 @@ public final class ScribeSupport extends AbstractTextSupport {
     return relationsIndex.parentForeignKeys(table);
   }
 
+  /**
+   * Gets the tables, views, and routines that reference a table or routine, such as views that
+   * select from a table, or routines that call a routine.
+   *
+   * @param databaseObject Table or routine
+   * @return Referencing objects, or an empty collection when there are none
+   */
+  public Collection<DatabaseObject> referencedBy(final DatabaseObject databaseObject) {
+    return referencesIndex.referencedBy(databaseObject);
+  }
+
   /**
    * Gets the parent tables referenced by a table's imported foreign keys.
    *
@@ -280,6 +295,15 @@ public final class ScribeSupport extends AbstractTextSupport {
     return relationsIndex.referencingTables(table);
   }
 
+  /**
+   * Gets the number of worker threads to use to render report pages.
+   *
+   * @return Number of worker threads
+   */
+  public int renderThreads() {
+    return options.getThreads();
+  }
+
   /**
    * Gets the routine definition (DDL body).
    *
@@ -379,11 +403,17 @@ public final class ScribeSupport extends AbstractTextSupport {
       return List.of();
     }
     final List<Table> views = new ArrayList<>();
-    for (final Table candidate : getCatalog().getTables()) {
-      if (isView(candidate) && candidate.getReferencedObjects().contains(table)) {
+    for (final DatabaseObject referencingObject : referencedBy(table)) {
+      if (referencingObject instanceof final Table candidate && isView(candidate)) {
         views.add(candidate);
       }
     }
     return List.copyOf(views);
   }
+
+  private static <T extends DatabaseObject> List<T> sortedByFullName(final Collection<T> objects) {
+    final List<T> sorted = new ArrayList<>(objects);
+    sorted.sort(Comparator.comparing(DatabaseObject::getFullName));
+    return List.copyOf(sorted);
+  }
 }
@@ -25,6 +25,9 @@ import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.scribe.command.options.ScribeOptionsBuilder;
 import schemacrawler.test.utility.StubExecutionState;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.lint.LintCommand;
+import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
+import schemacrawler.tools.lint.LintResultsCache;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
@@ -169,4 +172,42 @@ public class ScribeCommandTest {
     assertThat(Files.exists(outputDir.resolve("index.md")), is(true));
     assertThat(Files.exists(tempDir.resolve("out-dir.zip")), is(false));
   }
+
+  @Test
+  public void executeWithLintReusesLintResults(
+      final DatabaseConnectionSource connectionSource, @TempDir final Path tempDir)
+      throws Exception {
+    final Catalog catalog =
+        getCatalog(connectionSource.get(), schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    LintResultsCache.clear();
+
+    final LintCommand lintCommand = new LintCommand();
+    lintCommand.setCatalog(catalog);
+    lintCommand.setConnectionSource(connectionSource);
+    lintCommand.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFile(tempDir.resolve("lint.txt"))
+            .withOutputFormatValue("text")
+            .toOptions());
+    lintCommand.configure(LintOptionsBuilder.builder().toOptions());
+    lintCommand.execute();
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+
+    final ScribeCommand command = new ScribeCommand();
+    command.setCatalog(catalog);
+    command.setConnectionSource(connectionSource);
+    command.setERModel(new StubExecutionState(catalog).getERModel());
+    command.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFile(tempDir.resolve("out"))
+            .withOutputFormatValue("okf")
+            .toOptions());
+    command.configure(
+        ScribeOptionsBuilder.builder().withIncludeLint(true).withThreads(2).toOptions());
+    command.execute();
+
+    assertThat(LintResultsCache.getMissCount(), is(1L));
+    assertThat(LintResultsCache.getHitCount(), is(1L));
+    assertThat(Files.exists(tempDir.resolve("out.zip")), is(true));
+  }
 }
@@ -25,6 +25,8 @@ public class ScribeOptionsBuilderTest {
     assertThat(options.isIncludeLint(), is(false));
     assertThat(options.getLocale(), is(Locale.getDefault()));
     assertThat(options.isExpandedOutput(), is(false));
+    assertThat(options.getThreads(), is(Runtime.getRuntime().availableProcessors()));
+    assertThat(options.getMaxLintConnections(), is(Runtime.getRuntime().availableProcessors()));
   }
 
   @Test
@@ -47,6 +49,44 @@ public class ScribeOptionsBuilderTest {
     assertThat(options.isExpandedOutput(), is(true));
   }
 
+  @Test
+  public void withThreads() {
+    assertThat(ScribeOptionsBuilder.builder().withThreads(3).toOptions().getThreads(), is(3));
+
+    final int defaultThreads = Runtime.getRuntime().availableProcessors();
+    assertThat(
+        ScribeOptionsBuilder.builder().withThreads(0).toOptions().getThreads(), is(defaultThreads));
+    assertThat(
+        ScribeOptionsBuilder.builder().withThreads(-2).toOptions().getThreads(),
+        is(defaultThreads));
+  }
+
+  @Test
+  public void withMaxLintConnections() {
+    final ScribeOptionsBuilder builder = ScribeOptionsBuilder.builder().withThreads(3);
+    // Number of threads, unless overridden
+    assertThat(builder.toOptions().getMaxLintConnections(), is(3));
+    assertThat(builder.withMaxLintConnections(2).toOptions().getMaxLintConnections(), is(2));
+    assertThat(builder.withMaxLintConnections(0).toOptions().getMaxLintConnections(), is(3));
+  }
+
+  @Test
+  public void fromOptionsKeepsThreadsAsLintConnectionLimit() {
+    final ScribeOptions options = ScribeOptionsBuilder.builder().withThreads(3).toOptions();
+    final ScribeOptions copy =
+        ScribeOptionsBuilder.builder().fromOptions(options).withThreads(5).toOptions();
+    assertThat(copy.getMaxLintConnections(), is(5));
+  }
+
+  @Test
+  public void toConfigOmitsLintConnectionsWhenNotSet() {
+    final Config config = ScribeOptionsBuilder.builder().withThreads(3).toConfig();
+    assertThat(config.containsKey("schemacrawler.lint.max-lint-connections"), is(false));
+
+    final ScribeOptions options = ScribeOptionsBuilder.builder().fromConfig(config).toOptions();
+    assertThat(options.getMaxLintConnections(), is(3));
+  }
+
   @Test
   public void toConfigWritesEachOptionKey() {
     final Config config =
@@ -54,11 +94,15 @@ public class ScribeOptionsBuilderTest {
             .withIncludeLint(true)
             .withLocale(Locale.FRENCH)
             .withExpandedOutput(true)
+            .withThreads(3)
+            .withMaxLintConnections(2)
             .toConfig();
 
     assertThat(config.getBooleanValue("schemacrawler.scribe.include-lint"), is(true));
     assertThat(config.getStringValue("schemacrawler.scribe.language"), is("fr"));
     assertThat(config.getBooleanValue("schemacrawler.scribe.expanded-output"), is(true));
+    assertThat(config.getIntegerValue("schemacrawler.scribe.threads", 0), is(3));
+    assertThat(config.getIntegerValue("schemacrawler.lint.max-lint-connections", 0), is(2));
   }
 
   @Test
@@ -68,12 +112,16 @@ public class ScribeOptionsBuilderTest {
     config.put("schemacrawler.scribe.include-lint", true);
     config.put("schemacrawler.scribe.language", "fr");
     config.put("schemacrawler.scribe.expanded-output", true);
+    config.put("schemacrawler.scribe.threads", 3);
+    config.put("schemacrawler.lint.max-lint-connections", 2);
 
     final ScribeOptions options = ScribeOptionsBuilder.builder().fromConfig(config).toOptions();
 
     assertThat(options.isIncludeLint(), is(true));
     assertThat(options.getLocale(), is(Locale.FRENCH));
     assertThat(options.isExpandedOutput(), is(true));
+    assertThat(options.getThreads(), is(3));
+    assertThat(options.getMaxLintConnections(), is(2));
   }
 
   @Test
@@ -86,12 +134,16 @@ public class ScribeOptionsBuilderTest {
     config.put("include-lint", true);
     config.put("language", "fr");
     config.put("expanded-output", true);
+    config.put("threads", 5);
+    config.put("max-lint-connections", 3);
 
     final ScribeOptions options = ScribeOptionsBuilder.builder().fromConfig(config).toOptions();
 
     assertThat(options.isIncludeLint(), is(true));
     assertThat(options.getLocale(), is(Locale.FRENCH));
     assertThat(options.isExpandedOutput(), is(true));
+    assertThat(options.getThreads(), is(5));
+    assertThat(options.getMaxLintConnections(), is(3));
   }
 
   @Test
@@ -18,14 +18,27 @@ public class ScribeOptionsTest {
 
   @Test
   public void equalsAndHashCode() {
-    final ScribeOptions options = new ScribeOptions("My Report", true, Locale.FRENCH, true);
-    final ScribeOptions sameOptions = new ScribeOptions("My Report", true, Locale.FRENCH, true);
+    final ScribeOptions options = new ScribeOptions("My Report", true, Locale.FRENCH, true, 4, 4);
+    final ScribeOptions sameOptions =
+        new ScribeOptions("My Report", true, Locale.FRENCH, true, 4, 4);
     final ScribeOptions differentOptions =
-        new ScribeOptions("Other Report", true, Locale.FRENCH, true);
+        new ScribeOptions("Other Report", true, Locale.FRENCH, true, 4, 4);
+    final ScribeOptions differentThreads =
+        new ScribeOptions("My Report", true, Locale.FRENCH, true, 2, 4);
+    final ScribeOptions differentLintConnections =
+        new ScribeOptions("My Report", true, Locale.FRENCH, true, 4, 2);
 
     assertThat(options.equals(options), is(true));
     assertThat(options.equals(sameOptions), is(true));
     assertThat(options.hashCode(), is(sameOptions.hashCode()));
     assertThat(options.equals(differentOptions), is(false));
+    assertThat(options.equals(differentThreads), is(false));
+    assertThat(options.equals(differentLintConnections), is(false));
+  }
+
+  @Test
+  public void maxLintConnectionsDefaultsToThreads() {
+    final ScribeOptions options = new ScribeOptions("My Report", true, Locale.FRENCH, true, 3, 0);
+    assertThat(options.getMaxLintConnections(), is(3));
   }
 }
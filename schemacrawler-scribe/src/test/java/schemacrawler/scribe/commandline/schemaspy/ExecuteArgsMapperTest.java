@@ -29,7 +29,12 @@ import schemacrawler.tools.commandline.state.ShellState;
 public class ExecuteArgsMapperTest {
 
   private static ExecuteArgsMapper mapper(final String outputPath, final String locale) {
-    return new ExecuteArgsMapper(new ExecuteArgs(outputPath, locale));
+    return mapper(outputPath, locale, null);
+  }
+
+  private static ExecuteArgsMapper mapper(
+      final String outputPath, final String locale, final Integer threads) {
+    return new ExecuteArgsMapper(new ExecuteArgs(outputPath, locale, threads));
   }
 
   @Test
@@ -59,6 +64,18 @@ public class ExecuteArgsMapperTest {
     assertThat(args, not(hasItem("--language")));
   }
 
+  @Test
+  public void includesThreadsWhenPositive() {
+    final List<String> args = mapper("out.zip", null, 15).toArgs();
+    assertThat(args.subList(args.size() - 2, args.size()), contains("--threads", "15"));
+  }
+
+  @Test
+  public void omitsThreadsWhenNotPositive() {
+    assertThat(mapper("out.zip", null, 0).toArgs(), not(hasItem("--threads")));
+    assertThat(mapper("out.zip", null, null).toArgs(), not(hasItem("--threads")));
+  }
+
   @Test
   public void argsParseWithExecuteCommand() {
     final List<String> args = mapper("out.zip", "de-DE").toArgs();
@@ -8,10 +8,17 @@
 
 package schemacrawler.scribe.okf;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -20,7 +27,47 @@ public class BundleDirectoryOutputTest {
   @Test
   public void resolveRejectsPathThatEscapesRoot(@TempDir final Path tempDir) throws Exception {
     try (final BundleDirectoryOutput output = new BundleDirectoryOutput(tempDir, true)) {
-      assertThrows(UncheckedIOException.class, () -> output.toWrite("../outside.md"));
+      assertThrows(
+          UncheckedIOException.class, () -> output.writeEntry("../outside.md", new byte[0]));
+    }
+  }
+
+  @Test
+  public void writeEntryToDirectory(@TempDir final Path tempDir) throws Exception {
+    try (final BundleDirectoryOutput output = new BundleDirectoryOutput(tempDir, true)) {
+      output.writeEntry("tables/table.md", "# Table".getBytes(UTF_8));
+    }
+
+    assertThat(Files.readString(tempDir.resolve("tables/table.md")), is("# Table"));
+  }
+
+  @Test
+  public void writeEntryToZip(@TempDir final Path tempDir) throws Exception {
+    final Path zipPath = tempDir.resolve("bundle.zip");
+    final String largePage = "# Table\n".repeat(100);
+    try (final BundleDirectoryOutput output = new BundleDirectoryOutput(zipPath, false)) {
+      assertThrows(
+          UncheckedIOException.class, () -> output.writeEntry("../outside.md", new byte[0]));
+      output.writeEntry("index.md", "# Index".getBytes(UTF_8));
+      output.writeEntry("tables/table.md", largePage.getBytes(UTF_8));
+    }
+
+    try (final ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+      assertThat(zipFile.size(), is(2));
+      // Entries are in the order that they were written
+      assertThat(
+          zipFile.stream().map(ZipEntry::getName).toList(),
+          contains("index.md", "tables/table.md"));
+
+      final ZipEntry indexEntry = zipFile.getEntry("index.md");
+      assertThat(indexEntry.getMethod(), is(ZipEntry.STORED));
+      assertThat(
+          new String(zipFile.getInputStream(indexEntry).readAllBytes(), UTF_8), is("# Index"));
+
+      final ZipEntry tableEntry = zipFile.getEntry("tables/table.md");
+      assertThat(tableEntry.getMethod(), is(ZipEntry.DEFLATED));
+      assertThat(
+          new String(zipFile.getInputStream(tableEntry).readAllBytes(), UTF_8), is(largePage));
     }
   }
 }
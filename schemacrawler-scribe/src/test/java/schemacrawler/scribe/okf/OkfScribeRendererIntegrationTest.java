@@ -17,10 +17,14 @@ import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOption
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
 import schemacrawler.schema.Table;
 import schemacrawler.scribe.command.options.ScribeOptions;
 import schemacrawler.scribe.command.options.ScribeOptionsBuilder;
@@ -34,6 +38,35 @@ import us.fatehi.utility.datasource.DatabaseConnectionSource;
 @WithTestDatabase
 public class OkfScribeRendererIntegrationTest {
 
+  @Test
+  public void conceptPagesInPageOrder(
+      final DatabaseConnectionSource connectionSource, @TempDir final Path tempDir)
+      throws Exception {
+    final Catalog catalog =
+        getCatalog(connectionSource.get(), schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final ScribeOptions options = ScribeOptionsBuilder.builder().withThreads(4).toOptions();
+    final ExecutionState executionState = new StubExecutionState(catalog);
+    final ScribeSupport support = new ScribeSupport(executionState, options, new Lints(List.of()));
+
+    final Path zipPath = tempDir.resolve("bundle.zip");
+    try (final BundleDirectoryOutput outputDirectory = new BundleDirectoryOutput(zipPath, false)) {
+      new OpenKnowledgeFormatRenderer().render(support, outputDirectory);
+    }
+
+    final List<String> conceptPages = new ArrayList<>();
+    for (final Table table : support.allTables()) {
+      conceptPages.add("tables/" + table.key().slug() + ".md");
+    }
+    for (final Routine routine : support.allRoutines()) {
+      conceptPages.add("routines/" + routine.key().slug() + ".md");
+    }
+    assertThat(conceptPages.isEmpty(), is(false));
+    try (final ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+      final List<String> entryNames = zipFile.stream().map(ZipEntry::getName).toList();
+      assertThat(entryNames.subList(0, conceptPages.size()), is(conceptPages));
+    }
+  }
+
   @Test
   public void fullRender(
       final DatabaseConnectionSource connectionSource, @TempDir final Path tempDir)
@@ -16,6 +16,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static schemacrawler.scribe.renderer.JsonUtility.yamlMapper;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
@@ -23,11 +24,14 @@ import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource
 import static us.fatehi.test.utility.extensions.FileHasContent.hasSameContentAs;
 import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import org.junit.jupiter.api.Test;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ReferencingObject;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -131,6 +135,35 @@ public class ScribeSupportTest {
     assertThat(escaped, is("A\\|B C\\*D"));
   }
 
+  @Test
+  public void referencedByIndex(final DatabaseConnectionSource connectionSource) {
+    final Catalog catalog = catalog(connectionSource);
+    final ScribeOptions options = ScribeOptionsBuilder.builder().toOptions();
+
+    final ScribeSupport support = newHelper(catalog, options);
+
+    assertThat(support.allTables(), is(sameInstance(support.allTables())));
+    assertThat(support.allRoutines(), is(sameInstance(support.allRoutines())));
+
+    final List<DatabaseObject> referencingObjects = new ArrayList<>();
+    referencingObjects.addAll(catalog.getTables());
+    referencingObjects.addAll(catalog.getRoutines());
+    for (final DatabaseObject referencingObject : referencingObjects) {
+      if (!(referencingObject instanceof final ReferencingObject referencing)) {
+        continue;
+      }
+      for (final DatabaseObject referencedObject : referencing.getReferencedObjects()) {
+        assertThat(support.referencedBy(referencedObject), hasItem(referencingObject));
+        if (referencedObject instanceof final Table table
+            && referencingObject instanceof final Table view
+            && support.isView(view)) {
+          assertThat(support.usedByObjects(table), hasItem(view));
+        }
+      }
+    }
+    assertThat(support.referencedBy(null).isEmpty(), is(true));
+  }
+
   @Test
   public void statsAndCrossReferences(final DatabaseConnectionSource connectionSource) {
     final Catalog catalog = catalog(connectionSource);
@@ -12,9 +12,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import schemacrawler.schema.NamedObject;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.tools.command.AbstractSchemaCrawlerCommand;
@@ -25,20 +34,157 @@ import schemacrawler.tools.options.ConfigUtility;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.scripting.options.LanguageOptions;
+import schemacrawler.tools.traversal.FanOutSchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraversalCommand;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
 import us.fatehi.utility.property.PropertyName;
+import us.fatehi.utility.string.StringFormat;
 
 /**
  * Allows chaining multiple executables together, that produce different artifacts, such as an image
- * and a HTML file.
+ * and a HTML file. Commands run in the order that they were added, and adjacent commands that
+ * render their output from a traversal of the catalog in the same order are driven from a single
+ * traversal. Commands that are known to be independent can be run in parallel by turning on
+ * parallel execution, and then commands that need a database connection are limited to the
+ * configured maximum number of connections.
  */
 public final class CommandChain extends AbstractSchemaCrawlerCommand<LanguageOptions> {
 
+  private record TraversalOrder(
+      Comparator<NamedObject> tablesComparator, Comparator<NamedObject> routinesComparator) {}
+
   private static final PropertyName COMMAND =
       new PropertyName(
-          "chain", "Runs SchemaCrawler commands sequentially, each relying on the previous one");
+          "chain",
+          "Runs SchemaCrawler commands in order, or in parallel if the commands are independent");
+
+  static final String PARALLEL = "schemacrawler.chain.parallel";
+  static final String MAX_CONNECTIONS = "schemacrawler.chain.max_connections";
 
   private static final Logger LOGGER = Logger.getLogger(CommandChain.class.getName());
 
+  /**
+   * Runs commands concurrently on a bounded pool of threads, alongside other work on the calling
+   * thread. Commands that use a connection hold one of a limited number of permits while they run.
+   *
+   * @param commands Commands to run on the pool
+   * @param maxConnections Maximum number of commands using a connection at the same time
+   * @param alongside Work to run on the calling thread
+   * @param alongsideUsesConnection Whether the work on the calling thread uses a connection
+   */
+  static void executeConcurrently(
+      final List<SchemaCrawlerCommand<?>> commands,
+      final int maxConnections,
+      final Runnable alongside,
+      final boolean alongsideUsesConnection) {
+    final Semaphore connectionPermits = new Semaphore(maxConnections, true);
+    if (commands.isEmpty()) {
+      executeWithPermit(connectionPermits, alongsideUsesConnection, alongside);
+      return;
+    }
+
+    final int threads = Math.min(commands.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final SchemaCrawlerCommand<?> scCommand : commands) {
+        futures.add(
+            executor.submit(
+                () ->
+                    executeWithPermit(
+                        connectionPermits, scCommand.usesConnection(), scCommand::execute)));
+      }
+      executeWithPermit(connectionPermits, alongsideUsesConnection, alongside);
+      for (final Future<?> future : futures) {
+        awaitCommand(future);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Splits commands into steps that run one after the other, in the order that the commands were
+   * added. Adjacent commands that traverse the catalog in the same order are fused into a single
+   * step, and every other command is a step by itself.
+   *
+   * @param commands Commands, in order
+   * @return Steps, in order
+   */
+  static List<List<SchemaCrawlerCommand<?>>> inOrderSteps(
+      final List<SchemaCrawlerCommand<?>> commands) {
+    final List<List<SchemaCrawlerCommand<?>>> steps = new ArrayList<>();
+    List<SchemaCrawlerCommand<?>> currentTraversal = null;
+    TraversalOrder currentOrder = null;
+    for (final SchemaCrawlerCommand<?> scCommand : commands) {
+      if (scCommand instanceof final SchemaTraversalCommand traversalCommand) {
+        final TraversalOrder traversalOrder = traversalOrder(traversalCommand);
+        if (currentTraversal == null || !traversalOrder.equals(currentOrder)) {
+          currentTraversal = new ArrayList<>();
+          currentOrder = traversalOrder;
+          steps.add(currentTraversal);
+        }
+        currentTraversal.add(scCommand);
+      } else {
+        currentTraversal = null;
+        currentOrder = null;
+        steps.add(List.of(scCommand));
+      }
+    }
+    return steps;
+  }
+
+  private static void awaitCommand(final Future<?> future) {
+    try {
+      future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while executing chained commands", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ExecutionRuntimeException(cause);
+    }
+  }
+
+  private static void executeCommand(final Runnable command) {
+    try {
+      command.run();
+    } catch (final SchemaCrawlerException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e);
+    }
+  }
+
+  private static void executeWithPermit(
+      final Semaphore connectionPermits, final boolean usesConnection, final Runnable command) {
+    if (!usesConnection) {
+      executeCommand(command);
+      return;
+    }
+    try {
+      connectionPermits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while executing chained commands", e);
+    }
+    try {
+      executeCommand(command);
+    } finally {
+      connectionPermits.release();
+    }
+  }
+
+  private static TraversalOrder traversalOrder(final SchemaTraversalCommand traversalCommand) {
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traversalCommand.configureTraverser(traverser);
+    return new TraversalOrder(traverser.getTablesComparator(), traverser.getRoutinesComparator());
+  }
+
   private final CommandRegistry commandRegistry;
   private final List<SchemaCrawlerCommand<?>> scCommands;
   private final Config additionalConfig;
@@ -124,13 +270,63 @@ public final class CommandChain extends AbstractSchemaCrawlerCommand<LanguageOpt
       return;
     }
 
+    final boolean parallel = additionalConfig.getBooleanValue(PARALLEL, false);
+    if (!parallel) {
+      final List<List<SchemaCrawlerCommand<?>>> steps = inOrderSteps(scCommands);
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Executing %d chained commands in order, in %d steps",
+              scCommands.size(), steps.size()));
+      for (final List<SchemaCrawlerCommand<?>> step : steps) {
+        executeStep(step);
+      }
+      return;
+    }
+
+    // Commands that traverse the catalog in the same order share a single traversal
+    final Map<TraversalOrder, List<SchemaCrawlerCommand<?>>> traversals = new LinkedHashMap<>();
+    final List<SchemaCrawlerCommand<?>> otherCommands = new ArrayList<>();
     for (final SchemaCrawlerCommand<?> scCommand : scCommands) {
-      try {
-        scCommand.execute();
-      } catch (final SchemaCrawlerException e) {
-        throw e;
-      } catch (final Exception e) {
-        throw new ExecutionRuntimeException(e);
+      if (scCommand instanceof final SchemaTraversalCommand traversalCommand) {
+        traversals
+            .computeIfAbsent(traversalOrder(traversalCommand), key -> new ArrayList<>())
+            .add(scCommand);
+      } else {
+        otherCommands.add(scCommand);
+      }
+    }
+    final int maxConnections = Math.max(1, additionalConfig.getIntegerValue(MAX_CONNECTIONS, 1));
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Executing %d chained commands in parallel, with %d catalog traversals and %d other"
+                + " commands, using at most %d connections",
+            scCommands.size(), traversals.size(), otherCommands.size(), maxConnections));
+
+    boolean traversalsUseConnection = false;
+    for (final List<SchemaCrawlerCommand<?>> step : traversals.values()) {
+      for (final SchemaCrawlerCommand<?> scCommand : step) {
+        traversalsUseConnection |= scCommand.usesConnection();
+      }
+    }
+    executeConcurrently(
+        otherCommands,
+        maxConnections,
+        () -> {
+          for (final List<SchemaCrawlerCommand<?>> step : traversals.values()) {
+            executeStep(step);
+          }
+        },
+        traversalsUseConnection);
+  }
+
+  private void executeStep(final List<SchemaCrawlerCommand<?>> step) {
+    if (step.get(0) instanceof SchemaTraversalCommand) {
+      executeCommand(() -> traverse(step));
+    } else {
+      for (final SchemaCrawlerCommand<?> scCommand : step) {
+        executeCommand(scCommand::execute);
       }
     }
   }
@@ -145,4 +341,33 @@ public final class CommandChain extends AbstractSchemaCrawlerCommand<LanguageOpt
       scCommand.initialize();
     }
   }
+
+  /**
+   * Drives the handlers of all of the commands from a single traversal of the catalog. The commands
+   * need to traverse tables and routines in the same order.
+   */
+  private void traverse(final List<SchemaCrawlerCommand<?>> step) {
+    final List<SchemaTraversalCommand> traversalCommands = new ArrayList<>();
+    final List<SchemaTraversalHandler> handlers = new ArrayList<>();
+    for (final SchemaCrawlerCommand<?> scCommand : step) {
+      final SchemaTraversalCommand traversalCommand = (SchemaTraversalCommand) scCommand;
+      traversalCommands.add(traversalCommand);
+      handlers.add(traversalCommand.newSchemaTraversalHandler());
+    }
+
+    final SchemaTraverser traverser = new SchemaTraverser();
+    transferState(traverser);
+    traversalCommands.get(0).configureTraverser(traverser);
+    if (handlers.size() == 1) {
+      traverser.setHandler(handlers.get(0));
+    } else {
+      traverser.setHandler(new FanOutSchemaTraversalHandler(handlers));
+    }
+
+    traverser.traverse();
+
+    for (final SchemaTraversalCommand traversalCommand : traversalCommands) {
+      traversalCommand.afterTraversal();
+    }
+  }
 }
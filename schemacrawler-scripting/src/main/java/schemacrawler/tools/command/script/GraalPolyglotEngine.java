@@ -0,0 +1,127 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.script;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Graal Polyglot engine that is shared by all script executions in the JVM. Contexts that are
+ * created on the shared engine share its code cache, so a script that is run many times is parsed
+ * once, and is compiled once it is hot, instead of starting cold each time. Parsed script sources
+ * are cached by language and script content, and language availability is checked only once.
+ */
+final class GraalPolyglotEngine {
+
+  private record SourceKey(String language, String script) {}
+
+  private static final Logger LOGGER = Logger.getLogger(GraalPolyglotEngine.class.getName());
+
+  private static final int MAX_CACHED_SOURCES = 64;
+
+  private static final Map<String, Boolean> languageAvailability = new ConcurrentHashMap<>();
+  private static final Map<SourceKey, Source> sources =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<SourceKey, Source> eldest) {
+          return size() > MAX_CACHED_SOURCES;
+        }
+      };
+
+  private static volatile Engine engine;
+
+  /**
+   * Gets the shared engine, creating it on first use.
+   *
+   * @return Shared Graal Polyglot engine
+   */
+  static Engine getEngine() {
+    Engine sharedEngine = engine;
+    if (sharedEngine == null) {
+      synchronized (GraalPolyglotEngine.class) {
+        sharedEngine = engine;
+        if (sharedEngine == null) {
+          sharedEngine = Engine.newBuilder().build();
+          LOGGER.log(
+              Level.CONFIG,
+              new StringFormat(
+                  "Created shared Graal Polyglot engine, with languages %s",
+                  sharedEngine.getLanguages().keySet()));
+          engine = sharedEngine;
+        }
+      }
+    }
+    return sharedEngine;
+  }
+
+  /**
+   * Gets a parsed source for a script, reusing the source if the same script was run before.
+   *
+   * @param language Script language
+   * @param script Script text
+   * @return Script source
+   * @throws IOException On an exception building the source
+   */
+  static Source getSource(final String language, final String script) throws IOException {
+    requireNonNull(language, "No script language provided");
+    requireNonNull(script, "No script provided");
+
+    final SourceKey sourceKey = new SourceKey(language, script);
+    synchronized (sources) {
+      final Source source = sources.get(sourceKey);
+      if (source != null) {
+        return source;
+      }
+    }
+    final Source source =
+        Source.newBuilder(language, script, "schemacrawler_script_execution").build();
+    synchronized (sources) {
+      sources.put(sourceKey, source);
+    }
+    return source;
+  }
+
+  /**
+   * Checks whether a language is installed in the shared engine. The result is cached.
+   *
+   * @param language Script language
+   * @return Whether scripts can be run in the language
+   */
+  static boolean isLanguageAvailable(final String language) {
+    requireNonNull(language, "No script language provided");
+    return languageAvailability.computeIfAbsent(
+        language,
+        key -> {
+          try {
+            return getEngine().getLanguages().containsKey(key);
+          } catch (final Exception e) {
+            LOGGER.log(
+                Level.CONFIG,
+                e,
+                new StringFormat("Graal Polyglot language <%s> is not available", key));
+            return false;
+          }
+        });
+  }
+
+  private GraalPolyglotEngine() {
+    // Prevent instantiation
+  }
+}
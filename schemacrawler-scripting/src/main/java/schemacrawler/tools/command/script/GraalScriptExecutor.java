@@ -14,8 +14,13 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -29,32 +34,81 @@ import schemacrawler.tools.command.script.options.ScriptLanguageType;
 /** Main executor for the Graal Polyglot integration. */
 public final class GraalScriptExecutor implements ScriptExecutor {
 
+  /**
+   * Decodes script output bytes into characters for the writer. Bytes of a character that is split
+   * across writes are held until the rest of the character is written.
+   */
   private static class WriterOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
     private final Writer writer;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
 
     public WriterOutputStream(final Writer writer) {
       this.writer = writer;
+      decoder =
+          UTF_8
+              .newDecoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      bytes = ByteBuffer.allocate(BUFFER_SIZE);
+      chars = CharBuffer.allocate(BUFFER_SIZE);
     }
 
     @Override
     public void close() throws IOException {
+      decode(true);
+      while (decoder.flush(chars).isOverflow()) {
+        writeChars();
+      }
+      writeChars();
       writer.close();
     }
 
     @Override
     public void flush() throws IOException {
+      decode(false);
       writer.flush();
     }
 
     @Override
     public void write(final byte[] b, final int off, final int len) throws IOException {
-      final String str = new String(b, off, len, UTF_8);
-      writer.write(str);
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0) {
+        final int length = Math.min(remaining, bytes.remaining());
+        bytes.put(b, offset, length);
+        offset += length;
+        remaining -= length;
+        decode(false);
+      }
     }
 
     @Override
     public void write(final int b) throws IOException {
-      writer.write(b);
+      bytes.put((byte) b);
+      decode(false);
+    }
+
+    private void decode(final boolean endOfInput) throws IOException {
+      bytes.flip();
+      while (decoder.decode(bytes, chars, endOfInput).isOverflow()) {
+        writeChars();
+      }
+      writeChars();
+      // Keep any bytes of an incomplete character for the next write
+      bytes.compact();
+    }
+
+    private void writeChars() throws IOException {
+      chars.flip();
+      if (chars.hasRemaining()) {
+        writer.write(chars.array(), chars.arrayOffset(), chars.remaining());
+      }
+      chars.clear();
     }
   }
 
@@ -74,15 +128,7 @@ public final class GraalScriptExecutor implements ScriptExecutor {
 
   @Override
   public boolean canGenerate() {
-    final String language = scriptingLanguage.name();
-    try (final Context graalPolyglotContext =
-        Context.newBuilder(language).allowAllAccess(true).build()) {
-      // Do a lightweight eval to trigger language initialization
-      graalPolyglotContext.eval(language, "1");
-      return true;
-    } catch (final Exception e) {
-      return false;
-    }
+    return GraalPolyglotEngine.isLanguageAvailable(scriptingLanguage.name());
   }
 
   @Override
@@ -105,12 +151,12 @@ public final class GraalScriptExecutor implements ScriptExecutor {
     LOGGER.log(Level.INFO, "Executing %s script".formatted(language));
     try (final Context graalPolyglotContext =
         Context.newBuilder(language)
+            .engine(GraalPolyglotEngine.getEngine())
             .allowAllAccess(true)
             .out(new WriterOutputStream(writer))
             .build()) {
-      // Get the script source
-      final Source sourceCode =
-          Source.newBuilder(language, reader, "schemacrawler_script_execution").build();
+      // Get the script source, which is cached so that the shared engine can reuse compiled code
+      final Source sourceCode = GraalPolyglotEngine.getSource(language, readFully(reader));
 
       // Set execution content
       final Value bindings = graalPolyglotContext.getBindings(language);
@@ -124,4 +170,10 @@ public final class GraalScriptExecutor implements ScriptExecutor {
       throw new UncheckedIOException(e.getMessage(), e);
     }
   }
+
+  private String readFully(final Reader reader) throws IOException {
+    final StringWriter script = new StringWriter();
+    reader.transferTo(script);
+    return script.toString();
+  }
 }
@@ -18,6 +18,7 @@ import schemacrawler.tools.formatter.serialize.CatalogSerializer;
 import schemacrawler.tools.formatter.serialize.CompactSerializedCatalog;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
 import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.StreamingJsonSerializedCatalog;
 import schemacrawler.tools.formatter.serialize.YamlSerializedCatalog;
 import schemacrawler.tools.options.OutputFormat;
 import schemacrawler.tools.options.OutputFormatState;
@@ -28,6 +29,10 @@ public enum SerializationFormat implements OutputFormat {
   json("JavaScript Object Notation (JSON) serialization format", false),
   yaml("YAML Ain't Markup Language (YAML) serialization format", false),
   compact_json("Compact JavaScript Object Notation (JSON) serialization format", false),
+  streaming_json(
+      "Streaming JavaScript Object Notation (JSON) serialization format, with a subset of catalog"
+          + " details",
+      false),
   ;
 
   private static final Logger LOGGER = Logger.getLogger(SerializationFormat.class.getName());
@@ -114,6 +119,7 @@ public enum SerializationFormat implements OutputFormat {
       case json -> new JsonSerializedCatalog(catalog);
       case yaml -> new YamlSerializedCatalog(catalog);
       case compact_json -> new CompactSerializedCatalog(catalog);
+      case streaming_json -> new StreamingJsonSerializedCatalog(catalog);
     };
   }
 
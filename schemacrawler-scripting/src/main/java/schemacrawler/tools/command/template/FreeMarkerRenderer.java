@@ -15,21 +15,54 @@ import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.Locale;
 import java.util.Map;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
 import schemacrawler.tools.options.OutputOptions;
 
 /** Main executor for the FreeMarker integration. */
 public final class FreeMarkerRenderer extends BaseTemplateRenderer {
 
+  static {
+    System.setProperty(
+        freemarker.log.Logger.SYSTEM_PROPERTY_NAME_LOGGER_LIBRARY,
+        freemarker.log.Logger.LIBRARY_NAME_JUL);
+  }
+
+  private static Configuration newConfiguration(
+      final String templatePath, final Charset inputCharset) {
+    // Create a new instance of the configuration
+    final Configuration cfg = new Configuration(Configuration.VERSION_2_3_34);
+
+    try {
+      final TemplateLoader ctl = new ClassTemplateLoader(FreeMarkerRenderer.class, "/");
+      final TemplateLoader ftl = new FileTemplateLoader(new File(templatePath));
+      final TemplateLoader mtl = new MultiTemplateLoader(new TemplateLoader[] {ctl, ftl});
+      cfg.setTemplateLoader(mtl);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    cfg.setEncoding(Locale.getDefault(), inputCharset.name());
+    cfg.setWhitespaceStripping(true);
+    // Compiled templates are cached by the template cache, which checks for changed files
+    cfg.setTemplateUpdateDelayMilliseconds(0);
+
+    return cfg;
+  }
+
   @Override
   public void execute() {
 
     final OutputOptions outputOptions = getOutputOptions();
+    final Charset inputCharset = outputOptions.getInputCharset();
 
-    String templateLocation = getResourceFilename();
+    final String resourceFilename = getResourceFilename();
+    String templateLocation = resourceFilename;
     String templatePath = ".";
     final File templateFilePath = new File(templateLocation);
     if (templateFilePath.exists()) {
@@ -38,23 +71,23 @@ public final class FreeMarkerRenderer extends BaseTemplateRenderer {
     }
 
     try {
-      System.setProperty(
-          freemarker.log.Logger.SYSTEM_PROPERTY_NAME_LOGGER_LIBRARY,
-          freemarker.log.Logger.LIBRARY_NAME_JUL);
-
-      // Create a new instance of the configuration
-      final Configuration cfg = new Configuration(Configuration.VERSION_2_3_34);
+      final String templateDirectory = templatePath;
+      final Configuration cfg =
+          TemplateCache.getEngine(
+              TemplateLanguageType.freemarker,
+              templateDirectory + ";" + inputCharset.name(),
+              () -> newConfiguration(templateDirectory, inputCharset));
 
-      final TemplateLoader ctl = new ClassTemplateLoader(FreeMarkerRenderer.class, "/");
-      final TemplateLoader ftl = new FileTemplateLoader(new File(templatePath));
-      final TemplateLoader mtl = new MultiTemplateLoader(new TemplateLoader[] {ctl, ftl});
-      cfg.setTemplateLoader(mtl);
-      cfg.setEncoding(Locale.getDefault(), outputOptions.getInputCharset().name());
-      cfg.setWhitespaceStripping(true);
+      final String templateName = templateLocation;
+      final Template template =
+          TemplateCache.getTemplate(
+              TemplateLanguageType.freemarker,
+              resourceFilename,
+              inputCharset,
+              () -> cfg.getTemplate(templateName));
 
       try (final Writer writer = outputOptions.openNewOutputWriter()) {
         // Evaluate the template
-        final Template template = cfg.getTemplate(templateLocation);
         final Map<String, Object> context = getContext();
         template.process(context, writer);
       }
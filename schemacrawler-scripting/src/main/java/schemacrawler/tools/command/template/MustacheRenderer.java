@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import schemacrawler.schemacrawler.exceptions.ConfigurationException;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
 import schemacrawler.tools.options.OutputOptions;
 import us.fatehi.utility.ioresource.InputResource;
 
@@ -37,9 +38,21 @@ public final class MustacheRenderer extends BaseTemplateRenderer {
                     new ConfigurationException(
                         "Mustache template not found <%s>".formatted(templateLocation)));
 
-    try (final Reader reader = inputResource.openNewInputReader(StandardCharsets.UTF_8)) {
-      final MustacheFactory mustacheFactory = new DefaultMustacheFactory();
-      final Mustache mustache = mustacheFactory.compile(reader, templateLocation);
+    try {
+      final MustacheFactory mustacheFactory =
+          TemplateCache.getEngine(
+              TemplateLanguageType.mustache, "default", DefaultMustacheFactory::new);
+      final Mustache mustache =
+          TemplateCache.getTemplate(
+              TemplateLanguageType.mustache,
+              templateLocation,
+              StandardCharsets.UTF_8,
+              () -> {
+                try (final Reader reader =
+                    inputResource.openNewInputReader(StandardCharsets.UTF_8)) {
+                  return mustacheFactory.compile(reader, templateLocation);
+                }
+              });
 
       try (final Writer writer = outputOptions.openNewOutputWriter()) {
         // Evaluate the template
@@ -0,0 +1,203 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.template;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Process-wide cache of configured template engines and compiled templates, shared by the template
+ * renderers, so that rendering the same template many times does not bootstrap an engine and parse
+ * the template each time. Templates are keyed by language, location, input character set and, for
+ * template files, last modified time, so a template file that is edited is compiled again. Both
+ * caches are bounded, and the least recently used entries are evicted first.
+ */
+public final class TemplateCache {
+
+  private record EngineKey(TemplateLanguageType language, String configuration) {}
+
+  private record TemplateKey(
+      TemplateLanguageType language, String templateLocation, String charset, long lastModified) {}
+
+  private static final Logger LOGGER = Logger.getLogger(TemplateCache.class.getName());
+
+  private static final int MAX_CACHED_ENGINES = 16;
+  private static final int MAX_CACHED_TEMPLATES = 128;
+
+  private static final Map<EngineKey, Object> engines = newLruMap(MAX_CACHED_ENGINES);
+  private static final Map<TemplateKey, Object> templates = newLruMap(MAX_CACHED_TEMPLATES);
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  /** Removes all cached engines and templates, and resets the statistics. */
+  public static void clear() {
+    synchronized (engines) {
+      engines.clear();
+    }
+    synchronized (templates) {
+      templates.clear();
+    }
+    hits.set(0);
+    misses.set(0);
+  }
+
+  /**
+   * Number of template lookups that were served from the cache.
+   *
+   * @return Cache hit count
+   */
+  public static long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Number of template lookups that needed the template to be compiled.
+   *
+   * @return Cache miss count
+   */
+  public static long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Gets a configured engine, creating it on first use. Engines are shared across renders, so they
+   * should only be used in ways that are safe for concurrent use.
+   *
+   * @param language Template language
+   * @param configuration Description of everything that the engine configuration depends on
+   * @param engineFactory Creates and configures a new engine
+   * @return Shared engine
+   */
+  @SuppressWarnings("unchecked")
+  static <E> E getEngine(
+      final TemplateLanguageType language,
+      final String configuration,
+      final Supplier<E> engineFactory) {
+    requireNonNull(language, "No template language provided");
+    requireNonNull(configuration, "No engine configuration provided");
+    requireNonNull(engineFactory, "No engine factory provided");
+
+    final EngineKey engineKey = new EngineKey(language, configuration);
+    synchronized (engines) {
+      final Object engine = engines.get(engineKey);
+      if (engine != null) {
+        return (E) engine;
+      }
+    }
+    final E engine = engineFactory.get();
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat("Created %s template engine for <%s>", language, configuration));
+    synchronized (engines) {
+      // Keep the engine created by another thread, if any
+      return (E) engines.computeIfAbsent(engineKey, key -> engine);
+    }
+  }
+
+  /**
+   * Gets a compiled template, compiling it if it is not cached, or if the template file has changed
+   * since it was compiled.
+   *
+   * @param language Template language
+   * @param templateLocation Template file path or CLASSPATH resource
+   * @param inputCharset Character set of the template
+   * @param compiler Compiles the template
+   * @return Compiled template
+   * @throws Exception On an exception compiling the template
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T getTemplate(
+      final TemplateLanguageType language,
+      final String templateLocation,
+      final Charset inputCharset,
+      final Callable<T> compiler)
+      throws Exception {
+    requireNonNull(language, "No template language provided");
+    requireNonNull(templateLocation, "No template location provided");
+    requireNonNull(inputCharset, "No input character set provided");
+    requireNonNull(compiler, "No template compiler provided");
+
+    final TemplateKey templateKey = newTemplateKey(language, templateLocation, inputCharset);
+    synchronized (templates) {
+      final Object template = templates.get(templateKey);
+      if (template != null) {
+        hits.incrementAndGet();
+        return (T) template;
+      }
+    }
+
+    misses.incrementAndGet();
+    final T template = compiler.call();
+    synchronized (templates) {
+      // Drop templates compiled from earlier versions of the same file
+      templates
+          .keySet()
+          .removeIf(
+              key ->
+                  key.language() == language
+                      && key.templateLocation().equals(templateKey.templateLocation()));
+      templates.put(templateKey, template);
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Compiled %s template <%s> - template cache hits %d, misses %d",
+            language, templateKey.templateLocation(), hits.get(), misses.get()));
+    return template;
+  }
+
+  private static <K> Map<K, Object> newLruMap(final int maxSize) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, Object> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  private static TemplateKey newTemplateKey(
+      final TemplateLanguageType language,
+      final String templateLocation,
+      final Charset inputCharset) {
+    try {
+      final Path templateFile = Path.of(templateLocation);
+      if (Files.isRegularFile(templateFile)) {
+        return new TemplateKey(
+            language,
+            templateFile.toAbsolutePath().normalize().toString(),
+            inputCharset.name(),
+            Files.getLastModifiedTime(templateFile).toMillis());
+      }
+    } catch (final InvalidPathException | IOException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Template <%s> is not a file", templateLocation));
+    }
+    // CLASSPATH resources do not change while the process is running
+    return new TemplateKey(language, templateLocation, inputCharset.name(), 0L);
+  }
+
+  private TemplateCache() {
+    // Prevent instantiation
+  }
+}
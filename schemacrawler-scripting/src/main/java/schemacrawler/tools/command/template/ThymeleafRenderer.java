@@ -18,6 +18,7 @@ import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 import org.thymeleaf.templateresolver.UrlTemplateResolver;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
 import schemacrawler.tools.options.OutputOptions;
 
 /** Main executor for the Thymeleaf integration. */
@@ -30,6 +31,24 @@ public final class ThymeleafRenderer extends BaseTemplateRenderer {
     return templateResolver;
   }
 
+  private static TemplateEngine newTemplateEngine(final Charset inputCharset) {
+    final TemplateEngine templateEngine = new TemplateEngine();
+
+    final FileTemplateResolver fileResolver = new FileTemplateResolver();
+    fileResolver.setCheckExistence(true);
+    templateEngine.addTemplateResolver(configure(fileResolver, inputCharset));
+
+    final ClassLoaderTemplateResolver classpathResolver = new ClassLoaderTemplateResolver();
+    classpathResolver.setCheckExistence(true);
+    templateEngine.addTemplateResolver(configure(classpathResolver, inputCharset));
+
+    final UrlTemplateResolver urlResolver = new UrlTemplateResolver();
+    urlResolver.setCheckExistence(true);
+    templateEngine.addTemplateResolver(configure(urlResolver, inputCharset));
+
+    return templateEngine;
+  }
+
   @Override
   public void execute() {
     final OutputOptions outputOptions = getOutputOptions();
@@ -38,22 +57,24 @@ public final class ThymeleafRenderer extends BaseTemplateRenderer {
       final Context context = new Context();
       context.setVariables(getContext());
 
-      final TemplateEngine templateEngine = new TemplateEngine();
       final Charset inputCharset = outputOptions.getInputCharset();
+      final TemplateEngine templateEngine =
+          TemplateCache.getEngine(
+              TemplateLanguageType.thymeleaf,
+              inputCharset.name(),
+              () -> newTemplateEngine(inputCharset));
 
-      final FileTemplateResolver fileResolver = new FileTemplateResolver();
-      fileResolver.setCheckExistence(true);
-      templateEngine.addTemplateResolver(configure(fileResolver, inputCharset));
-
-      final ClassLoaderTemplateResolver classpathResolver = new ClassLoaderTemplateResolver();
-      classpathResolver.setCheckExistence(true);
-      templateEngine.addTemplateResolver(configure(classpathResolver, inputCharset));
-
-      final UrlTemplateResolver urlResolver = new UrlTemplateResolver();
-      urlResolver.setCheckExistence(true);
-      templateEngine.addTemplateResolver(configure(urlResolver, inputCharset));
-
+      // Thymeleaf keeps parsed templates in the engine, so evict a template when its file changes
       final String templateLocation = getResourceFilename();
+      TemplateCache.getTemplate(
+          TemplateLanguageType.thymeleaf,
+          templateLocation,
+          inputCharset,
+          () -> {
+            templateEngine.clearTemplateCacheFor(templateLocation);
+            return templateLocation;
+          });
+
       try (final Writer writer = outputOptions.openNewOutputWriter()) {
         templateEngine.process(templateLocation, context, writer);
       }
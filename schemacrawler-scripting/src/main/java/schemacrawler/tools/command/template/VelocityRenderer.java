@@ -9,6 +9,7 @@
 package schemacrawler.tools.command.template;
 
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Properties;
@@ -22,6 +23,7 @@ import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
 import schemacrawler.schemacrawler.exceptions.ConfigurationException;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
 import schemacrawler.tools.options.OutputOptions;
 
 public final class VelocityRenderer extends BaseTemplateRenderer {
@@ -40,6 +42,29 @@ public final class VelocityRenderer extends BaseTemplateRenderer {
         resourceLoaderPropertyValue);
   }
 
+  private static VelocityEngine newVelocityEngine(final String templatePath) {
+    // Create a new instance of the engine
+    final VelocityEngine ve = new VelocityEngine();
+
+    // Set up Velocity resource loaders for loading from the
+    // classpath, as well as the file system
+    // http://velocity.apache.org/engine/releases/velocity-1.7/developer-guide.html#Configuring_Resource_Loaders
+    final String fileResourceLoader = "file";
+    final String classpathResourceLoader = "classpath";
+    final Properties p = new Properties();
+    p.setProperty(
+        RuntimeConstants.RESOURCE_LOADER, fileResourceLoader + "," + classpathResourceLoader);
+    setVelocityResourceLoaderProperty(
+        p, classpathResourceLoader, "class", ClasspathResourceLoader.class.getName());
+    setVelocityResourceLoaderProperty(
+        p, fileResourceLoader, "class", FileResourceLoader.class.getName());
+    setVelocityResourceLoaderProperty(p, fileResourceLoader, "path", templatePath);
+
+    ve.init(p);
+
+    return ve;
+  }
+
   @Override
   public void execute() {
 
@@ -59,30 +84,24 @@ public final class VelocityRenderer extends BaseTemplateRenderer {
     }
 
     try {
-      // Create a new instance of the engine
-      final VelocityEngine ve = new VelocityEngine();
-
-      // Set up Velocity resource loaders for loading from the
-      // classpath, as well as the file system
-      // http://velocity.apache.org/engine/releases/velocity-1.7/developer-guide.html#Configuring_Resource_Loaders
-      final String fileResourceLoader = "file";
-      final String classpathResourceLoader = "classpath";
-      final Properties p = new Properties();
-      p.setProperty(
-          RuntimeConstants.RESOURCE_LOADER, fileResourceLoader + "," + classpathResourceLoader);
-      setVelocityResourceLoaderProperty(
-          p, classpathResourceLoader, "class", ClasspathResourceLoader.class.getName());
-      setVelocityResourceLoaderProperty(
-          p, fileResourceLoader, "class", FileResourceLoader.class.getName());
-      setVelocityResourceLoaderProperty(p, fileResourceLoader, "path", templatePath);
-
-      ve.init(p);
+      final String resourceLoaderPath = templatePath;
+      final VelocityEngine ve =
+          TemplateCache.getEngine(
+              TemplateLanguageType.velocity,
+              resourceLoaderPath,
+              () -> newVelocityEngine(resourceLoaderPath));
 
       final Context context = new VelocityContext(getContext());
 
       try (final Writer writer = outputOptions.openNewOutputWriter()) {
-        final String templateEncoding = outputOptions.getInputCharset().name();
-        final Template template = ve.getTemplate(templateLocation, templateEncoding);
+        final Charset inputCharset = outputOptions.getInputCharset();
+        final String templateName = templateLocation;
+        final Template template =
+            TemplateCache.getTemplate(
+                TemplateLanguageType.velocity,
+                getResourceFilename(),
+                inputCharset,
+                () -> ve.getTemplate(templateName, inputCharset.name()));
         template.merge(context, writer);
       } catch (final ResourceNotFoundException e) {
         throw new ConfigurationException("Apache Velocity template not found", e);
@@ -29,9 +29,11 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
@@ -163,18 +165,28 @@ public abstract sealed class BaseJacksonSerializedCatalog implements CatalogSeri
     return objectMapper;
   }
 
-  private final Catalog catalog;
+  // Mappers are thread-safe, and expensive to configure, so they are
+  // built once for each serialization format, and reused
+  private static final Map<Class<?>, ObjectMapper> mappers = new ConcurrentHashMap<>();
 
-  private final SortedSet<Column> allTableColumns;
+  private final Catalog catalog;
 
   public BaseJacksonSerializedCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
-    allTableColumns = new TreeSet<>();
-    loadAllTableColumns();
   }
 
+  /**
+   * Gets all table columns in the catalog, sorted. Columns are collected only when needed during
+   * serialization, rather than when the serializer is created.
+   *
+   * @return All table columns
+   */
   public Set<Column> getAllTableColumns() {
-    return new TreeSet<>(allTableColumns);
+    final SortedSet<Column> allTableColumns = new TreeSet<>();
+    for (final Table table : catalog.getTables()) {
+      allTableColumns.addAll(table.getColumns());
+    }
+    return allTableColumns;
   }
 
   @Override
@@ -194,7 +206,9 @@ public abstract sealed class BaseJacksonSerializedCatalog implements CatalogSeri
   public void save(final Writer out) {
     requireNonNull(out, "No writer provided");
     try {
-      final ObjectMapper mapper = newConfiguredObjectMapper(newMapperBuilder(), isIndented());
+      final ObjectMapper mapper =
+          mappers.computeIfAbsent(
+              getClass(), key -> newConfiguredObjectMapper(newMapperBuilder(), isIndented()));
       mapper.writeValue(out, this);
       // Jackson will flush and close the stream
     } catch (final JacksonException e) {
@@ -207,10 +221,4 @@ public abstract sealed class BaseJacksonSerializedCatalog implements CatalogSeri
   }
 
   protected abstract MapperBuilder<? extends ObjectMapper, ?> newMapperBuilder();
-
-  private void loadAllTableColumns() {
-    for (final Table table : catalog.getTables()) {
-      allTableColumns.addAll(table.getColumns());
-    }
-  }
 }
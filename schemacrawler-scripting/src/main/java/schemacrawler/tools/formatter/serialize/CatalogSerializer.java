@@ -13,7 +13,9 @@ import java.io.Writer;
 import schemacrawler.schema.Catalog;
 
 public sealed interface CatalogSerializer
-    permits JavaSerializedCatalog, BaseJacksonSerializedCatalog {
+    permits JavaSerializedCatalog,
+        BaseJacksonSerializedCatalog,
+        StreamingJsonSerializedCatalog {
 
   /**
    * Gets the catalog wrapped by ths savable.
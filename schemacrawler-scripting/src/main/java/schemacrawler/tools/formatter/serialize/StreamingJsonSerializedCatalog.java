@@ -0,0 +1,458 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.formatter.serialize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serializes a catalog to compact JSON by walking the catalog, and writing each object directly to
+ * a streaming generator. Objects refer to each other by their full names, rather than by generated
+ * object identifiers, so the output is stable across runs. Only the object being written is held in
+ * memory, so memory use does not grow with the size of the catalog.
+ *
+ * <p>Tables are written with their columns, primary key, indexes, foreign keys, table constraints,
+ * triggers, privileges and grants, and attributes. Columns are written with their privileges and
+ * attributes. This is a subset of the object model written by the other JSON formats, which also
+ * include driver, database and system information. Implicit associations are not part of the
+ * catalog, and are not written by any of the formats. Attribute values are written as strings.
+ */
+public final class StreamingJsonSerializedCatalog implements CatalogSerializer {
+
+  // Mappers are thread-safe, and expensive to create, so use one across invocations
+  private static final JsonMapper MAPPER = JsonUtility.newJsonMapperBuilder().build();
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final Catalog catalog;
+
+  public StreamingJsonSerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) {
+    requireNonNull(out, "No output stream provided");
+    save(new OutputStreamWriter(out, UTF_8));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    requireNonNull(out, "No writer provided");
+    // Jackson will flush and close the stream
+    try (final JsonGenerator generator = MAPPER.createGenerator(out)) {
+      generator.writeStartObject();
+      writeNumber(generator, "format-version", FORMAT_VERSION);
+      writeString(generator, "name", catalog.getName());
+      writeCrawlInfo(generator, catalog.getCrawlInfo());
+      writeSchemas(generator, catalog.getSchemas());
+      writeColumnDataTypes(generator, catalog.getColumnDataTypes());
+      writeTables(generator, catalog.getTables());
+      writeRoutines(generator, catalog.getRoutines());
+      writeSequences(generator, catalog.getSequences());
+      writeSynonyms(generator, catalog.getSynonyms());
+      generator.writeEndObject();
+    } catch (final JacksonException e) {
+      throw new ExecutionRuntimeException("Could not serialize catalog", e);
+    }
+  }
+
+  private void writeAttributes(final JsonGenerator generator, final AttributedObject object) {
+    final Map<String, Object> attributes = object.getAttributes();
+    if (attributes == null || attributes.isEmpty()) {
+      return;
+    }
+    generator.writeName("attributes");
+    generator.writeStartObject();
+    // Sort attributes by name, so the output is stable across runs
+    for (final Map.Entry<String, Object> attribute : new TreeMap<>(attributes).entrySet()) {
+      writeString(generator, attribute.getKey(), stringOrNull(attribute.getValue()));
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeBoolean(final JsonGenerator generator, final String name, final boolean value) {
+    generator.writeName(name);
+    generator.writeBoolean(value);
+  }
+
+  private void writeColumn(final JsonGenerator generator, final Column column) {
+    generator.writeStartObject();
+    writeString(generator, "name", column.getName());
+    writeNumber(generator, "ordinal-position", column.getOrdinalPosition());
+    writeReference(generator, "column-data-type", column.getColumnDataType());
+    writeNumber(generator, "size", column.getSize());
+    writeNumber(generator, "decimal-digits", column.getDecimalDigits());
+    writeBoolean(generator, "nullable", column.isNullable());
+    writeBoolean(generator, "auto-incremented", column.isAutoIncremented());
+    writeBoolean(generator, "generated", column.isGenerated());
+    writeBoolean(generator, "hidden", column.isHidden());
+    writeString(generator, "default-value", column.getDefaultValue());
+    writeString(generator, "remarks", column.getRemarks());
+    writePrivileges(generator, column.getPrivileges());
+    writeAttributes(generator, column);
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataTypes(
+      final JsonGenerator generator, final Collection<ColumnDataType> columnDataTypes) {
+    generator.writeName("column-data-types");
+    generator.writeStartArray();
+    for (final ColumnDataType columnDataType : columnDataTypes) {
+      generator.writeStartObject();
+      writeString(generator, "full-name", columnDataType.getFullName());
+      writeString(generator, "name", columnDataType.getName());
+      writeString(generator, "java-sql-type", String.valueOf(columnDataType.getJavaSqlType()));
+      writeReference(generator, "base-type", columnDataType.getBaseType());
+      writeBoolean(generator, "nullable", columnDataType.isNullable());
+      writeBoolean(generator, "auto-incrementable", columnDataType.isAutoIncrementable());
+      writeString(generator, "create-parameters", columnDataType.getCreateParameters());
+      writeString(generator, "remarks", columnDataType.getRemarks());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeColumnNames(
+      final JsonGenerator generator,
+      final String name,
+      final Collection<? extends Column> columns) {
+    generator.writeName(name);
+    generator.writeStartArray();
+    for (final Column column : columns) {
+      generator.writeString(column.getName());
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeCrawlInfo(final JsonGenerator generator, final CrawlInfo crawlInfo) {
+    if (crawlInfo == null) {
+      return;
+    }
+    generator.writeName("crawl-info");
+    generator.writeStartObject();
+    writeString(generator, "title", crawlInfo.getTitle());
+    writeString(generator, "crawl-timestamp", String.valueOf(crawlInfo.getCrawlTimestamp()));
+    writeString(
+        generator, "schemacrawler-version", String.valueOf(crawlInfo.getSchemaCrawlerVersion()));
+    writeString(generator, "database-version", String.valueOf(crawlInfo.getDatabaseVersion()));
+    writeString(
+        generator, "jdbc-driver-version", String.valueOf(crawlInfo.getJdbcDriverVersion()));
+    generator.writeEndObject();
+  }
+
+  private void writeForeignKey(final JsonGenerator generator, final ForeignKey foreignKey) {
+    generator.writeStartObject();
+    writeString(generator, "name", foreignKey.getName());
+    writeString(generator, "update-rule", String.valueOf(foreignKey.getUpdateRule()));
+    writeString(generator, "delete-rule", String.valueOf(foreignKey.getDeleteRule()));
+    generator.writeName("column-references");
+    generator.writeStartArray();
+    for (final ColumnReference columnRef : foreignKey) {
+      generator.writeStartObject();
+      writeNumber(generator, "key-sequence", columnRef.getKeySequence());
+      writeReference(generator, "foreign-key-column", columnRef.getForeignKeyColumn());
+      writeReference(generator, "primary-key-column", columnRef.getPrimaryKeyColumn());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeIndex(final JsonGenerator generator, final Index index) {
+    generator.writeStartObject();
+    writeString(generator, "name", index.getName());
+    writeString(generator, "index-type", String.valueOf(index.getIndexType()));
+    writeBoolean(generator, "unique", index.isUnique());
+    writeColumnNames(generator, "columns", index.getColumns());
+    if (index.hasFilterCondition()) {
+      writeString(generator, "filter-condition", index.getFilterCondition());
+    }
+    writeString(generator, "remarks", index.getRemarks());
+    generator.writeEndObject();
+  }
+
+  private void writeNumber(final JsonGenerator generator, final String name, final long value) {
+    generator.writeName(name);
+    generator.writeNumber(value);
+  }
+
+  private void writePrimaryKey(final JsonGenerator generator, final PrimaryKey primaryKey) {
+    if (primaryKey == null) {
+      return;
+    }
+    generator.writeName("primary-key");
+    generator.writeStartObject();
+    writeString(generator, "name", primaryKey.getName());
+    writeColumnNames(generator, "columns", primaryKey.getConstrainedColumns());
+    generator.writeEndObject();
+  }
+
+  private void writePrivileges(
+      final JsonGenerator generator, final Collection<? extends Privilege<?>> privileges) {
+    generator.writeName("privileges");
+    generator.writeStartArray();
+    for (final Privilege<?> privilege : privileges) {
+      generator.writeStartObject();
+      writeString(generator, "name", privilege.getName());
+      writeString(generator, "remarks", privilege.getRemarks());
+      generator.writeName("grants");
+      generator.writeStartArray();
+      for (final Grant<?> grant : privilege.getGrants()) {
+        generator.writeStartObject();
+        writeString(generator, "grantor", grant.getGrantor());
+        writeString(generator, "grantee", grant.getGrantee());
+        writeBoolean(generator, "grantable", grant.isGrantable());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  /** References are written as the full name of the referenced object. */
+  private void writeReference(
+      final JsonGenerator generator, final String name, final NamedObject reference) {
+    if (reference == null) {
+      return;
+    }
+    writeString(generator, name, reference.getFullName());
+  }
+
+  private void writeRoutines(final JsonGenerator generator, final Collection<Routine> routines) {
+    generator.writeName("routines");
+    generator.writeStartArray();
+    for (final Routine routine : routines) {
+      generator.writeStartObject();
+      writeString(generator, "full-name", routine.getFullName());
+      writeReference(generator, "schema", routine.getSchema());
+      writeString(generator, "name", routine.getName());
+      writeString(generator, "specific-name", routine.getSpecificName());
+      writeString(generator, "routine-type", String.valueOf(routine.getRoutineType()));
+      writeString(generator, "return-type", String.valueOf(routine.getReturnType()));
+      writeString(generator, "remarks", routine.getRemarks());
+      generator.writeName("parameters");
+      generator.writeStartArray();
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        generator.writeStartObject();
+        writeString(generator, "name", parameter.getName());
+        writeNumber(generator, "ordinal-position", parameter.getOrdinalPosition());
+        writeString(generator, "parameter-mode", String.valueOf(parameter.getParameterMode()));
+        writeReference(generator, "column-data-type", parameter.getColumnDataType());
+        writeNumber(generator, "size", parameter.getSize());
+        writeNumber(generator, "decimal-digits", parameter.getDecimalDigits());
+        writeBoolean(generator, "nullable", parameter.isNullable());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      if (routine.hasDefinition()) {
+        writeString(generator, "definition", routine.getDefinition());
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeSchemas(final JsonGenerator generator, final Collection<Schema> schemas) {
+    generator.writeName("schemas");
+    generator.writeStartArray();
+    for (final Schema schema : schemas) {
+      generator.writeStartObject();
+      writeString(generator, "full-name", schema.getFullName());
+      writeString(generator, "catalog-name", schema.getCatalogName());
+      writeString(generator, "name", schema.getName());
+      writeString(generator, "remarks", schema.getRemarks());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeSequences(
+      final JsonGenerator generator, final Collection<Sequence> sequences) {
+    generator.writeName("sequences");
+    generator.writeStartArray();
+    for (final Sequence sequence : sequences) {
+      generator.writeStartObject();
+      writeString(generator, "full-name", sequence.getFullName());
+      writeReference(generator, "schema", sequence.getSchema());
+      writeString(generator, "name", sequence.getName());
+      writeString(generator, "increment", String.valueOf(sequence.getIncrement()));
+      writeString(generator, "start-value", stringOrNull(sequence.getStartValue()));
+      writeString(generator, "minimum-value", stringOrNull(sequence.getMinimumValue()));
+      writeString(generator, "maximum-value", stringOrNull(sequence.getMaximumValue()));
+      writeBoolean(generator, "cycle", sequence.isCycle());
+      writeString(generator, "remarks", sequence.getRemarks());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeString(final JsonGenerator generator, final String name, final String value) {
+    if (value == null) {
+      // Omit null values, as for the other JSON formats
+      return;
+    }
+    generator.writeName(name);
+    generator.writeString(value);
+  }
+
+  private void writeSynonyms(final JsonGenerator generator, final Collection<Synonym> synonyms) {
+    generator.writeName("synonyms");
+    generator.writeStartArray();
+    for (final Synonym synonym : synonyms) {
+      generator.writeStartObject();
+      writeString(generator, "full-name", synonym.getFullName());
+      writeReference(generator, "schema", synonym.getSchema());
+      writeString(generator, "name", synonym.getName());
+      writeReference(generator, "referenced-object", synonym.getReferencedObject());
+      writeString(generator, "remarks", synonym.getRemarks());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeTable(final JsonGenerator generator, final Table table) {
+    generator.writeStartObject();
+    writeString(generator, "full-name", table.getFullName());
+    writeReference(generator, "schema", table.getSchema());
+    writeString(generator, "name", table.getName());
+    writeString(generator, "table-type", String.valueOf(table.getTableType()));
+    writeString(generator, "remarks", table.getRemarks());
+
+    generator.writeName("columns");
+    generator.writeStartArray();
+    for (final Column column : table.getColumns()) {
+      writeColumn(generator, column);
+    }
+    for (final Column column : table.getHiddenColumns()) {
+      writeColumn(generator, column);
+    }
+    generator.writeEndArray();
+
+    writePrimaryKey(generator, table.getPrimaryKey());
+
+    generator.writeName("indexes");
+    generator.writeStartArray();
+    for (final Index index : table.getIndexes()) {
+      writeIndex(generator, index);
+    }
+    generator.writeEndArray();
+
+    // Only write foreign keys from the referencing table, since
+    // exported foreign keys are written with the other table
+    generator.writeName("foreign-keys");
+    generator.writeStartArray();
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      writeForeignKey(generator, foreignKey);
+    }
+    generator.writeEndArray();
+
+    generator.writeName("table-constraints");
+    generator.writeStartArray();
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      writeTableConstraint(generator, tableConstraint);
+    }
+    generator.writeEndArray();
+
+    generator.writeName("triggers");
+    generator.writeStartArray();
+    for (final Trigger trigger : table.getTriggers()) {
+      writeTrigger(generator, trigger);
+    }
+    generator.writeEndArray();
+
+    writePrivileges(generator, table.getPrivileges());
+
+    if (table.hasDefinition()) {
+      writeString(generator, "definition", table.getDefinition());
+    }
+    writeAttributes(generator, table);
+    generator.writeEndObject();
+  }
+
+  private void writeTableConstraint(
+      final JsonGenerator generator, final TableConstraint tableConstraint) {
+    generator.writeStartObject();
+    writeString(generator, "name", tableConstraint.getName());
+    writeString(generator, "constraint-type", String.valueOf(tableConstraint.getType()));
+    writeColumnNames(generator, "columns", tableConstraint.getConstrainedColumns());
+    if (tableConstraint.hasDefinition()) {
+      writeString(generator, "definition", tableConstraint.getDefinition());
+    }
+    writeString(generator, "remarks", tableConstraint.getRemarks());
+    generator.writeEndObject();
+  }
+
+  private void writeTables(final JsonGenerator generator, final Collection<Table> tables) {
+    generator.writeName("tables");
+    generator.writeStartArray();
+    for (final Table table : tables) {
+      writeTable(generator, table);
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeTrigger(final JsonGenerator generator, final Trigger trigger) {
+    generator.writeStartObject();
+    writeString(generator, "name", trigger.getName());
+    writeString(generator, "condition-timing", String.valueOf(trigger.getConditionTiming()));
+    writeString(generator, "action-orientation", String.valueOf(trigger.getActionOrientation()));
+    writeString(
+        generator, "event-manipulation-types", String.valueOf(trigger.getEventManipulationTypes()));
+    writeString(generator, "action-condition", trigger.getActionCondition());
+    writeString(generator, "action-statement", trigger.getActionStatement());
+    generator.writeEndObject();
+  }
+
+  private String stringOrNull(final Object value) {
+    if (value == null) {
+      return null;
+    }
+    return String.valueOf(value);
+  }
+}
@@ -46,6 +46,21 @@ public class ScriptExecutorTest {
     assertThat(writer.toString(), equalToCompressingWhiteSpace("Hello, World!"));
   }
 
+  @Test
+  public void graalRepeated() throws Exception {
+    final String script = "const greeting = \"Hello, \u00e9\u4e16\u754c!\"; print(greeting);";
+    for (int i = 0; i < 3; i++) {
+      final StringWriter writer = new StringWriter();
+      final ScriptExecutor scriptExecutor = new GraalScriptExecutor(ScriptLanguageType.js);
+      scriptExecutor.initialize(null, new StringReader(script), writer);
+
+      assertThat(scriptExecutor.canGenerate(), is(true));
+
+      scriptExecutor.run();
+      assertThat(writer.toString(), equalToCompressingWhiteSpace("Hello, \u00e9\u4e16\u754c!"));
+    }
+  }
+
   @Test
   public void graalEngineNullLanguage() throws Exception {
     assertThrows(NullPointerException.class, () -> new GraalScriptExecutor(null));
@@ -55,6 +55,12 @@ public class SerializationFormatTest {
     assertThat(SerializationFormat.fromFormat("ser"), is(SerializationFormat.ser));
   }
 
+  @Test
+  public void fromFormatStreamingJson() {
+    assertThat(
+        SerializationFormat.fromFormat("streaming_json"), is(SerializationFormat.streaming_json));
+  }
+
   @Test
   public void fromFormatUnknown() {
     assertThat(SerializationFormat.fromFormat("unknown_format"), is(SerializationFormat.ser));
@@ -108,6 +114,11 @@ public class SerializationFormatTest {
     assertThat(SerializationFormat.ser.isBinaryFormat(), is(true));
   }
 
+  @Test
+  public void isBinaryFormatStreamingJson() {
+    assertThat(SerializationFormat.streaming_json.isBinaryFormat(), is(false));
+  }
+
   @Test
   public void isBinaryFormatYaml() {
     assertThat(SerializationFormat.yaml.isBinaryFormat(), is(false));
@@ -0,0 +1,182 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+import static us.fatehi.test.utility.TestUtility.fileHeaderOf;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.serialize.options.SerializationFormat;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.ConfigUtility;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import us.fatehi.test.utility.extensions.AssertNoSystemErrOutput;
+import us.fatehi.test.utility.extensions.AssertNoSystemOutOutput;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@AssertNoSystemErrOutput
+@AssertNoSystemOutOutput
+@WithTestDatabase
+public class StreamingJsonSerializationTest {
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> fullNames = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      fullNames.add(namedObject.getFullName());
+    }
+    return fullNames;
+  }
+
+  private static List<String> grantees(final Collection<? extends Privilege<?>> privileges) {
+    final List<String> grantees = new ArrayList<>();
+    for (final Privilege<?> privilege : privileges) {
+      for (final Grant<?> grant : privilege.getGrants()) {
+        grantees.add(grant.getGrantee());
+      }
+    }
+    return grantees;
+  }
+
+  private static List<String> grantees(final JsonNode privilegesNode) {
+    final List<String> grantees = new ArrayList<>();
+    for (final JsonNode privilegeNode : privilegesNode) {
+      grantees.addAll(values(privilegeNode.get("grants"), "grantee"));
+    }
+    return grantees;
+  }
+
+  private static List<String> names(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> names = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      names.add(namedObject.getName());
+    }
+    return names;
+  }
+
+  private static List<String> values(final JsonNode arrayNode, final String name) {
+    final List<String> values = new ArrayList<>();
+    for (final JsonNode node : arrayNode) {
+      // Null values are not written
+      final JsonNode valueNode = node.get(name);
+      values.add(valueNode == null ? null : valueNode.asString());
+    }
+    return values;
+  }
+
+  @Test
+  public void executableSerializeStreamingJson(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("serialize");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
+
+    final Path outputFile =
+        executableExecution(connectionSource, executable, SerializationFormat.streaming_json);
+
+    // Streaming JSON is written without indentation, and starts with '{"'
+    assertThat(fileHeaderOf(outputFile), is("7B22"));
+
+    // Load the serialized catalog back, and compare it with a catalog loaded with the same options
+    final Catalog catalog =
+        getCatalog(
+            connectionSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptions,
+            ConfigUtility.newConfig());
+    final JsonNode catalogNode = new ObjectMapper().readTree(outputFile.toFile());
+
+    assertThat(
+        values(catalogNode.get("schemas"), "full-name"), is(fullNames(catalog.getSchemas())));
+    assertThat(
+        values(catalogNode.get("routines"), "full-name"), is(fullNames(catalog.getRoutines())));
+    assertThat(
+        values(catalogNode.get("sequences"), "full-name"), is(fullNames(catalog.getSequences())));
+    assertThat(
+        values(catalogNode.get("synonyms"), "full-name"), is(fullNames(catalog.getSynonyms())));
+
+    final JsonNode tablesNode = catalogNode.get("tables");
+    assertThat(values(tablesNode, "full-name"), is(fullNames(catalog.getTables())));
+    assertThat(catalog.getTables(), is(not(empty())));
+    int tableIndex = 0;
+    for (final Table table : catalog.getTables()) {
+      final JsonNode tableNode = tablesNode.get(tableIndex++);
+
+      final List<String> columnNames = new ArrayList<>();
+      for (final Column column : table.getColumns()) {
+        columnNames.add(column.getName());
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        columnNames.add(column.getName());
+      }
+      assertThat(values(tableNode.get("columns"), "name"), is(columnNames));
+
+      final List<String> indexNames = new ArrayList<>();
+      for (final Index index : table.getIndexes()) {
+        indexNames.add(index.getName());
+      }
+      assertThat(values(tableNode.get("indexes"), "name"), is(indexNames));
+
+      final List<String> foreignKeyNames = new ArrayList<>();
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        foreignKeyNames.add(foreignKey.getName());
+      }
+      assertThat(values(tableNode.get("foreign-keys"), "name"), is(foreignKeyNames));
+
+      final List<String> tableConstraintTypes = new ArrayList<>();
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        tableConstraintTypes.add(String.valueOf(tableConstraint.getType()));
+      }
+      final JsonNode tableConstraintsNode = tableNode.get("table-constraints");
+      assertThat(values(tableConstraintsNode, "name"), is(names(table.getTableConstraints())));
+      assertThat(values(tableConstraintsNode, "constraint-type"), is(tableConstraintTypes));
+
+      final JsonNode privilegesNode = tableNode.get("privileges");
+      assertThat(values(privilegesNode, "name"), is(names(table.getPrivileges())));
+      assertThat(grantees(privilegesNode), is(grantees(table.getPrivileges())));
+
+      int columnIndex = 0;
+      for (final Column column : table.getColumns()) {
+        final JsonNode columnNode = tableNode.get("columns").get(columnIndex++);
+        assertThat(values(columnNode.get("privileges"), "name"), is(names(column.getPrivileges())));
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test.template;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import schemacrawler.tools.command.template.TemplateCache;
+import schemacrawler.tools.command.template.TemplateRenderer;
+import schemacrawler.tools.command.template.options.TemplateLanguageType;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+public class TemplateCacheTest {
+
+  private static String render(
+      final TemplateLanguageType language, final Path templateFile, final Path outputFile)
+      throws Exception {
+    final TemplateRenderer templateRenderer = language.newRenderer();
+    templateRenderer.setResourceFilename(templateFile.toString());
+    templateRenderer.setContext(Map.of("title", "Cached Schema"));
+    templateRenderer.setOutputOptions(
+        OutputOptionsBuilder.builder().withOutputFile(outputFile).toOptions());
+    templateRenderer.execute();
+    return Files.readString(outputFile, UTF_8);
+  }
+
+  private static String template(final TemplateLanguageType language, final String greeting) {
+    return switch (language) {
+      case freemarker -> greeting + " ${title}";
+      case velocity -> greeting + " $title";
+      case mustache -> greeting + " {{title}}";
+      case thymeleaf -> "<p>" + greeting + " <span th:text=\"${title}\"></span></p>";
+      default -> throw new IllegalArgumentException(language.name());
+    };
+  }
+
+  @BeforeEach
+  public void clearCache() {
+    TemplateCache.clear();
+  }
+
+  @ParameterizedTest(name = "with {0} templates")
+  @EnumSource(
+      value = TemplateLanguageType.class,
+      names = {"freemarker", "velocity", "mustache", "thymeleaf"})
+  public void templateCache(final TemplateLanguageType language, @TempDir final Path tempDir)
+      throws Exception {
+    final Path templateFile = tempDir.resolve("template." + language.name());
+    final Path outputFile = tempDir.resolve("output.txt");
+
+    Files.writeString(templateFile, template(language, "Hello"), UTF_8);
+
+    final String firstOutput = render(language, templateFile, outputFile);
+    assertThat(firstOutput, containsString("Hello"));
+    assertThat(firstOutput, containsString("Cached Schema"));
+    assertThat(TemplateCache.getMissCount(), is(1L));
+    assertThat(TemplateCache.getHitCount(), is(0L));
+
+    final String secondOutput = render(language, templateFile, outputFile);
+    assertThat(secondOutput, is(firstOutput));
+    assertThat(TemplateCache.getMissCount(), is(1L));
+    assertThat(TemplateCache.getHitCount(), is(1L));
+
+    // Edit the template, and make sure that the change is picked up
+    Files.writeString(templateFile, template(language, "Goodbye"), UTF_8);
+    Files.setLastModifiedTime(
+        templateFile,
+        FileTime.fromMillis(Files.getLastModifiedTime(templateFile).toMillis() + 10_000L));
+
+    final String thirdOutput = render(language, templateFile, outputFile);
+    assertThat(thirdOutput, containsString("Goodbye"));
+    assertThat(thirdOutput, not(containsString("Hello")));
+    assertThat(TemplateCache.getMissCount(), is(2L));
+    assertThat(TemplateCache.getHitCount(), is(1L));
+  }
+}
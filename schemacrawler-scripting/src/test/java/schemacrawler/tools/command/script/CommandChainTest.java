@@ -0,0 +1,131 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.command.script;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import schemacrawler.tools.command.SchemaCrawlerCommand;
+import schemacrawler.tools.traversal.SchemaTraversalCommand;
+import schemacrawler.tools.traversal.SchemaTraverser;
+import schemacrawler.utility.NamedObjectSort;
+
+public class CommandChainTest {
+
+  private static SchemaCrawlerCommand<?> command() {
+    return mock(SchemaCrawlerCommand.class);
+  }
+
+  private static SchemaCrawlerCommand<?> traversalCommand(final boolean alphabetical) {
+    final SchemaCrawlerCommand<?> scCommand =
+        mock(
+            SchemaCrawlerCommand.class,
+            withSettings().extraInterfaces(SchemaTraversalCommand.class));
+    doAnswer(
+            invocation -> {
+              final SchemaTraverser traverser = invocation.getArgument(0);
+              traverser.setTablesComparator(NamedObjectSort.getNamedObjectSort(alphabetical));
+              return null;
+            })
+        .when((SchemaTraversalCommand) scCommand)
+        .configureTraverser(any(SchemaTraverser.class));
+    return scCommand;
+  }
+
+  @Test
+  public void concurrentCommandsLimitConnections() {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final List<SchemaCrawlerCommand<?>> executed = Collections.synchronizedList(new ArrayList<>());
+
+    final List<SchemaCrawlerCommand<?>> commands = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      final SchemaCrawlerCommand<?> scCommand = command();
+      when(scCommand.usesConnection()).thenReturn(true);
+      doAnswer(
+              invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                executed.add(scCommand);
+                return null;
+              })
+          .when(scCommand)
+          .execute();
+      commands.add(scCommand);
+    }
+
+    final AtomicInteger alongside = new AtomicInteger();
+    CommandChain.executeConcurrently(
+        commands,
+        1,
+        () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          alongside.incrementAndGet();
+          running.decrementAndGet();
+        },
+        true);
+
+    assertThat(executed.size(), is(commands.size()));
+    assertThat(alongside.get(), is(1));
+    assertThat(maxRunning.get(), is(1));
+  }
+
+  @Test
+  public void concurrentCommandsWithoutCommands() {
+    final AtomicInteger alongside = new AtomicInteger();
+    CommandChain.executeConcurrently(new ArrayList<>(), 1, alongside::incrementAndGet, false);
+    assertThat(alongside.get(), is(1));
+  }
+
+  @Test
+  public void inOrderSteps() {
+    final SchemaCrawlerCommand<?> text1 = traversalCommand(false);
+    final SchemaCrawlerCommand<?> text2 = traversalCommand(false);
+    final SchemaCrawlerCommand<?> other = command();
+    final SchemaCrawlerCommand<?> text3 = traversalCommand(false);
+    final SchemaCrawlerCommand<?> sorted1 = traversalCommand(true);
+    final SchemaCrawlerCommand<?> sorted2 = traversalCommand(true);
+    final SchemaCrawlerCommand<?> text4 = traversalCommand(false);
+
+    final List<List<SchemaCrawlerCommand<?>>> steps =
+        CommandChain.inOrderSteps(List.of(text1, text2, other, text3, sorted1, sorted2, text4));
+
+    assertThat(
+        steps,
+        contains(
+            List.of(text1, text2),
+            List.of(other),
+            List.of(text3),
+            List.of(sorted1, sorted2),
+            List.of(text4)));
+  }
+
+  @Test
+  public void inOrderStepsWithoutTraversals() {
+    final SchemaCrawlerCommand<?> command1 = command();
+    final SchemaCrawlerCommand<?> command2 = command();
+
+    final List<List<SchemaCrawlerCommand<?>>> steps =
+        CommandChain.inOrderSteps(List.of(command1, command2));
+
+    assertThat(steps, contains(List.of(command1), List.of(command2)));
+  }
+}
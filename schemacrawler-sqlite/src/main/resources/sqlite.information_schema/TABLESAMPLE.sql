@@ -4,10 +4,13 @@
 -- All rights reserved.
 -- SPDX-License-Identifier: EPL-2.0
 
+-- Rows from a random offset, bounded by the table row count, or random rows
+-- from the start of the table if the row count is not known
 SELECT 
   ${basiccolumns}
 FROM 
   ${table}
-ORDER BY 
-  RANDOM()
+WHERE
+  ABS(RANDOM() % 1000000) / 1000000.0 < ${samplefraction}
 LIMIT 10
+OFFSET ${sampleoffset}
@@ -9,6 +9,12 @@
 package schemacrawler.server.sqlserver;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -16,21 +22,70 @@ import java.util.logging.Logger;
 import us.fatehi.utility.database.SqlScript;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Creates the temporary procedures that collect metadata across databases. Temporary procedures
+ * live as long as the database session, so they are created only once for each physical session,
+ * even if the connection source hands out the same connection, or a new wrapper for a pooled
+ * session, more than once. One instance is used for each connection source.
+ */
 public final class SqlServerConnectionInitializer implements Consumer<Connection> {
 
   private static final Logger LOGGER =
       Logger.getLogger(SqlServerConnectionInitializer.class.getName());
 
+  private static final String TEMPORARY_PROCEDURES_EXIST =
+      """
+      SELECT
+        CASE
+          WHEN OBJECT_ID('tempdb..#schcrwlr_CollectDatabaseUsers') IS NOT NULL
+            AND OBJECT_ID('tempdb..#schcrwlr_CollectSchemas') IS NOT NULL
+            AND OBJECT_ID('tempdb..#schcrwlr_CollectSequenceMetadata') IS NOT NULL
+            AND OBJECT_ID('tempdb..#schcrwlr_CollectSynonymMetadata') IS NOT NULL
+          THEN 1
+          ELSE 0
+        END
+      """;
+
+  private static boolean hasTemporaryProcedures(final Connection connection) {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement.executeQuery(TEMPORARY_PROCEDURES_EXIST)) {
+      return results != null && results.next() && results.getInt(1) == 1;
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not check for temporary procedures", e);
+      return false;
+    }
+  }
+
+  private final Set<Connection> initializedConnections =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
   @Override
   public void accept(final Connection connection) {
-    LOGGER.log(Level.FINE, new StringFormat("Initializing SQL Server connection <%s>", connection));
+    if (initializedConnections.contains(connection)) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("SQL Server connection <%s> is already initialized", connection));
+      return;
+    }
+
+    if (hasTemporaryProcedures(connection)) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat(
+              "SQL Server session for connection <%s> is already initialized", connection));
+    } else {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Initializing SQL Server connection <%s>", connection));
 
-    SqlScript.executeScriptFromResource("/initialize-all-database-users.sql", "@", connection);
-    SqlScript.executeScriptFromResource("/initialize-all-schemas.sql", "@", connection);
+      SqlScript.executeScriptFromResource("/initialize-all-database-users.sql", "@", connection);
+      SqlScript.executeScriptFromResource("/initialize-all-schemas.sql", "@", connection);
 
-    SqlScript.executeScriptFromResource("/initialize-all-sequences.sql", "@", connection);
-    SqlScript.executeScriptFromResource("/initialize-all-synonyms.sql", "@", connection);
+      SqlScript.executeScriptFromResource("/initialize-all-sequences.sql", "@", connection);
+      SqlScript.executeScriptFromResource("/initialize-all-synonyms.sql", "@", connection);
 
-    LOGGER.log(Level.FINE, new StringFormat("Initialized SQL Server connection <%s>", connection));
+      LOGGER.log(
+          Level.FINE, new StringFormat("Initialized SQL Server connection <%s>", connection));
+    }
+    initializedConnections.add(connection);
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.integration.test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.junit.jupiter.api.Test;
+import schemacrawler.server.sqlserver.SqlServerConnectionInitializer;
+import schemacrawler.test.utility.DisableLogging;
+
+@DisableLogging
+public class SqlServerConnectionInitializerTest {
+
+  private static Connection mockInitializedSession() throws Exception {
+    final ResultSet results = mock(ResultSet.class);
+    when(results.next()).thenReturn(true);
+    when(results.getInt(1)).thenReturn(1);
+    final Statement statement = mock(Statement.class);
+    when(statement.executeQuery(anyString())).thenReturn(results);
+    final Connection connection = mock(Connection.class);
+    when(connection.createStatement()).thenReturn(statement);
+    return connection;
+  }
+
+  @Test
+  public void initializeOncePerConnection() throws Exception {
+    final Connection connection = mockInitializedSession();
+    final SqlServerConnectionInitializer initializer = new SqlServerConnectionInitializer();
+
+    initializer.accept(connection);
+    verify(connection, times(1)).createStatement();
+
+    // Connection handed out again by the connection source
+    clearInvocations(connection);
+    initializer.accept(connection);
+    verifyNoInteractions(connection);
+  }
+
+  @Test
+  public void initializedSession() throws Exception {
+    final Connection connection = mockInitializedSession();
+    final Statement statement = connection.createStatement();
+    clearInvocations(connection);
+
+    new SqlServerConnectionInitializer().accept(connection);
+
+    // Only checks for temporary procedures, and does not create them again
+    verify(connection, times(1)).createStatement();
+    verify(statement, times(1)).executeQuery(anyString());
+    verify(statement, times(0)).execute(anyString());
+  }
+}
@@ -14,52 +14,53 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
 import schemacrawler.tools.text.formatter.schema.SchemaListFormatter;
 import schemacrawler.tools.text.formatter.schema.SchemaTextFormatter;
 import schemacrawler.tools.traversal.ModelHelper;
+import schemacrawler.tools.traversal.SchemaTraversalCommand;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraverser;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.property.PropertyName;
 
 /** Basic SchemaCrawler executor for text output. */
-public final class SchemaTextRenderer extends AbstractSchemaCrawlerCommand<SchemaTextOptions> {
+public final class SchemaTextRenderer extends AbstractSchemaCrawlerCommand<SchemaTextOptions>
+    implements SchemaTraversalCommand {
 
   public SchemaTextRenderer(final PropertyName command) {
     super(command);
   }
 
+  @Override
+  public void afterTraversal() {
+    // Text output is complete when the traversal ends
+  }
+
+  @Override
+  public void configureTraverser(final SchemaTraverser traverser) {
+    traverser.setTablesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    traverser.setMaxThreads(commandOptions.getRenderThreads());
+    traverser.setRenderWindow(commandOptions.getRenderWindow());
+  }
+
   @Override
   public void execute() {
     checkCatalog();
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
+    final SchemaTraversalHandler formatter = newSchemaTraversalHandler();
 
     final SchemaTraverser traverser = new SchemaTraverser();
     transferState(traverser);
     traverser.setHandler(formatter);
-    traverser.setTablesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    configureTraverser(traverser);
 
     traverser.traverse();
-  }
 
-  @Override
-  public boolean usesConnection() {
-    return false;
-  }
-
-  private SchemaTextDetailType getSchemaTextDetailType() {
-    SchemaTextDetailType schemaTextDetailType;
-    try {
-      final String command = getCommandName().getName();
-      schemaTextDetailType = SchemaTextDetailType.valueOf(command);
-    } catch (final IllegalArgumentException e) {
-      schemaTextDetailType = SchemaTextDetailType.schema;
-    }
-    return schemaTextDetailType;
+    afterTraversal();
   }
 
-  private SchemaTraversalHandler getSchemaTraversalHandler() {
+  @Override
+  public SchemaTraversalHandler newSchemaTraversalHandler() {
     final SchemaTextDetailType schemaTextDetailType = getSchemaTextDetailType();
     final SchemaTraversalHandler formatter;
 
@@ -75,4 +76,20 @@ public final class SchemaTextRenderer extends AbstractSchemaCrawlerCommand<Schem
 
     return formatter;
   }
+
+  @Override
+  public boolean usesConnection() {
+    return false;
+  }
+
+  private SchemaTextDetailType getSchemaTextDetailType() {
+    SchemaTextDetailType schemaTextDetailType;
+    try {
+      final String command = getCommandName().getName();
+      schemaTextDetailType = SchemaTextDetailType.valueOf(command);
+    } catch (final IllegalArgumentException e) {
+      schemaTextDetailType = SchemaTextDetailType.schema;
+    }
+    return schemaTextDetailType;
+  }
 }
@@ -60,6 +60,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
   private static final String SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS =
       SCHEMACRAWLER_FORMAT_PREFIX + "sort_alphabetically.table_foreignkeys";
 
+  private static final String RENDER_THREADS = SCHEMACRAWLER_FORMAT_PREFIX + "render_threads";
+  private static final String RENDER_WINDOW = SCHEMACRAWLER_FORMAT_PREFIX + "render_window";
+
   protected boolean isAlphabeticalSortForForeignKeys;
   protected boolean isAlphabeticalSortForIndexes;
   protected boolean isHideRemarks;
@@ -67,6 +70,8 @@ public abstract class BaseSchemaTextOptionsBuilder<
   protected boolean isShowStandardColumnTypeNames;
   protected boolean isHideTableRowCounts;
   protected boolean isHideTriggerActionStatements;
+  protected int renderThreads;
+  protected int renderWindow;
   protected final Map<HideDatabaseObjectsType, Boolean> hideDatabaseObjects;
   protected final Map<HideDependantDatabaseObjectsType, Boolean> hideDependantDatabaseObjects;
   protected final Map<HideDatabaseObjectNamesType, Boolean> hideNames;
@@ -75,6 +80,7 @@ public abstract class BaseSchemaTextOptionsBuilder<
     hideDatabaseObjects = new EnumMap<>(HideDatabaseObjectsType.class);
     hideDependantDatabaseObjects = new EnumMap<>(HideDependantDatabaseObjectsType.class);
     hideNames = new EnumMap<>(HideDatabaseObjectNamesType.class);
+    renderThreads = 1;
   }
 
   @Override
@@ -95,6 +101,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
         config.getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS);
     isAlphabeticalSortForIndexes = config.getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_INDEXES);
 
+    renderThreads(config.getIntegerValue(RENDER_THREADS, 1));
+    renderWindow(config.getIntegerValue(RENDER_WINDOW, 0));
+
     for (final HideDatabaseObjectsType databaseObjectsType : HideDatabaseObjectsType.values()) {
       final boolean isHidden = config.getBooleanValue(databaseObjectsType.getKey());
       hideDatabaseObjects.put(databaseObjectsType, isHidden);
@@ -133,6 +142,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
     isAlphabeticalSortForForeignKeys = options.isAlphabeticalSortForForeignKeys();
     isAlphabeticalSortForIndexes = options.isAlphabeticalSortForIndexes();
 
+    renderThreads = options.getRenderThreads();
+    renderWindow = options.getRenderWindow();
+
     for (final HideDatabaseObjectsType databaseObjectsType : HideDatabaseObjectsType.values()) {
       hideDatabaseObjects.put(databaseObjectsType, options.is(databaseObjectsType));
     }
@@ -392,6 +404,35 @@ public abstract class BaseSchemaTextOptionsBuilder<
     return (B) this;
   }
 
+  /**
+   * Number of threads to use to render tables. Tables are rendered in parallel, and written out in
+   * order, if there is more than one thread.
+   *
+   * @param value Number of threads, with values less than one reset to one
+   * @return Builder
+   */
+  public final B renderThreads(final int value) {
+    renderThreads = value;
+    if (renderThreads <= 0) {
+      renderThreads = 1;
+    }
+    return (B) this;
+  }
+
+  /**
+   * Maximum number of rendered tables to hold in memory, while waiting to be written out in order.
+   *
+   * @param value Number of tables, or zero for twice the number of render threads
+   * @return Builder
+   */
+  public final B renderWindow(final int value) {
+    renderWindow = value;
+    if (renderWindow < 0) {
+      renderWindow = 0;
+    }
+    return (B) this;
+  }
+
   public final B showOrdinalNumbers() {
     return showOrdinalNumbers(true);
   }
@@ -441,6 +482,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
     config.put(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS, isAlphabeticalSortForForeignKeys);
     config.put(SC_SORT_ALPHABETICALLY_TABLE_INDEXES, isAlphabeticalSortForIndexes);
 
+    config.put(RENDER_THREADS, renderThreads);
+    config.put(RENDER_WINDOW, renderWindow);
+
     for (final HideDatabaseObjectsType databaseObjectsType : HideDatabaseObjectsType.values()) {
       config.put(
           databaseObjectsType.getKey(),
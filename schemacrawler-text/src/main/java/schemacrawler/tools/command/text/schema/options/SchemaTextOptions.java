@@ -21,6 +21,8 @@ public class SchemaTextOptions extends BaseTextOptions {
   private final boolean isShowStandardColumnTypeNames;
   private final boolean isHideTableRowCounts;
   private final boolean isHideTriggerActionStatements;
+  private final int renderThreads;
+  private final int renderWindow;
   private final Map<HideDatabaseObjectsType, Boolean> hideDatabaseObjects;
   private final Map<HideDependantDatabaseObjectsType, Boolean> hideDependantDatabaseObjects;
   private final Map<HideDatabaseObjectNamesType, Boolean> hideNames;
@@ -36,6 +38,8 @@ public class SchemaTextOptions extends BaseTextOptions {
     isShowStandardColumnTypeNames = builder.isShowStandardColumnTypeNames;
     isHideTableRowCounts = builder.isHideTableRowCounts;
     isHideTriggerActionStatements = builder.isHideTriggerActionStatements;
+    renderThreads = builder.renderThreads;
+    renderWindow = builder.renderWindow;
 
     hideDatabaseObjects = new EnumMap<>(HideDatabaseObjectsType.class);
     for (final HideDatabaseObjectsType databaseObjectsType : HideDatabaseObjectsType.values()) {
@@ -58,6 +62,14 @@ public class SchemaTextOptions extends BaseTextOptions {
     }
   }
 
+  public int getRenderThreads() {
+    return renderThreads;
+  }
+
+  public int getRenderWindow() {
+    return renderWindow;
+  }
+
   public boolean is(final HideDatabaseObjectNamesType key) {
     return hideNames.getOrDefault(key, false);
   }
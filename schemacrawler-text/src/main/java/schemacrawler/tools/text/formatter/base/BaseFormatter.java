@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.utility.MetaDataUtility.isPartial;
 import static us.fatehi.utility.Utility.hasNoUpperCase;
 
+import java.io.BufferedWriter;
 import java.io.PrintWriter;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,6 +36,16 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
 
   private static final Logger LOGGER = Logger.getLogger(BaseFormatter.class.getName());
 
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+  private static PrintWriter newOutputWriter(final OutputOptions outputOptions) {
+    requireNonNull(outputOptions, "Output options not provided");
+    // Buffer output, since formatting helpers write many small fragments,
+    // and flush only at object boundaries
+    return new PrintWriter(
+        new BufferedWriter(outputOptions.openNewOutputWriter(false), OUTPUT_BUFFER_SIZE), false);
+  }
+
   protected final O options;
   protected final SchemaTextDetailType schemaTextDetailType;
   protected final OutputOptions outputOptions;
@@ -48,6 +59,19 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
       final O options,
       final OutputOptions outputOptions,
       final Identifiers identifiers) {
+    this(schemaTextDetailType, options, outputOptions, identifiers, newOutputWriter(outputOptions));
+  }
+
+  /**
+   * Formatter that writes to a given writer, instead of to the output file. Used to render parts
+   * of the output into separate buffers.
+   */
+  protected BaseFormatter(
+      final SchemaTextDetailType schemaTextDetailType,
+      final O options,
+      final OutputOptions outputOptions,
+      final Identifiers identifiers,
+      final PrintWriter out) {
 
     this.options = requireNonNull(options, "Options not provided");
     this.schemaTextDetailType =
@@ -61,7 +85,7 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
             .withIdentifierQuotingStrategy(options.getIdentifierQuotingStrategy());
     this.identifiers = identifiersBuilder.toOptions();
 
-    out = outputOptions.openNewOutputWriter(false);
+    this.out = requireNonNull(out, "No output writer provided");
 
     final TextOutputFormat outputFormat =
         TextOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
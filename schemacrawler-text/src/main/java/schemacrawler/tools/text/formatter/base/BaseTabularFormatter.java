@@ -10,6 +10,7 @@ package schemacrawler.tools.text.formatter.base;
 
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.PrintWriter;
 import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.Identifiers;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
@@ -29,6 +30,15 @@ public abstract class BaseTabularFormatter<O extends BaseTextOptions> extends Ba
     super(schemaTextDetailType, options, outputOptions, identifiers);
   }
 
+  protected BaseTabularFormatter(
+      final SchemaTextDetailType schemaTextDetailType,
+      final O options,
+      final OutputOptions outputOptions,
+      final Identifiers identifiers,
+      final PrintWriter out) {
+    super(schemaTextDetailType, options, outputOptions, identifiers, out);
+  }
+
   /** {@inheritDoc} */
   @Override
   public void begin() {
@@ -39,17 +39,30 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
 
   protected final PrintWriter out;
 
-  private final TextOutputFormat outputFormat;
+  // Resolved once, since they are needed for every row
+  private final TagOutputFormat tagOutputFormat;
+  private final TagOutputFormat dataRowTagOutputFormat;
+  private final SimpleToStringFunction toStringFunction;
 
   public BaseTextFormattingHelper(final PrintWriter out, final TextOutputFormat outputFormat) {
     this.out = out;
-    this.outputFormat = outputFormat;
+    tagOutputFormat = TagOutputFormat.valueOf(outputFormat.name());
+    // Data rows are tab-separated in plain text output
+    if (outputFormat == TextOutputFormat.text) {
+      dataRowTagOutputFormat = TagOutputFormat.tsv;
+    } else {
+      dataRowTagOutputFormat = tagOutputFormat;
+    }
+    toStringFunction = new SimpleToStringFunction(true);
   }
 
+  /**
+   * Appends text to the output. Output is buffered, and is only flushed at the end of each object,
+   * and at the end of the document.
+   */
   @Override
   public TextFormattingHelper append(final String text) {
     out.write(text);
-    out.flush();
 
     return this;
   }
@@ -60,7 +73,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
         .withEscapedText(text)
         .withHyperlink(link)
         .make()
-        .render(TagOutputFormat.valueOf(outputFormat.name()));
+        .render(tagOutputFormat);
   }
 
   @Override
@@ -74,7 +87,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
     final Tag row = tableRow().make();
     row.addInnerTag(tableCell().withStyleClass("spacer").make());
     row.addInnerTag(tableCell().withEscapedText(description).withColumnSpan(2).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(tagOutputFormat));
   }
 
   /** {@inheritDoc} */
@@ -120,7 +133,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
             .withStyleClass("minwidth" + text3Sytle)
             .make());
 
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(tagOutputFormat));
   }
 
   /**
@@ -132,7 +145,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   public void writeEmptyRow() {
     final Tag tableRow = tableRow().make();
     tableRow.addInnerTag(tableCell().withColumnSpan(3).make());
-    out.println(tableRow.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(tableRow.render(tagOutputFormat));
   }
 
   /**
@@ -171,7 +184,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
             .withStyleClass("description right")
             .make());
 
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(tagOutputFormat));
   }
 
   /**
@@ -204,7 +217,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
             .withStyleClass(valueStyle)
             .make());
 
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(tagOutputFormat));
   }
 
   /**
@@ -214,13 +227,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRow(final Object... columnData) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
     final Tag row = tableRow().make();
     for (final Object element : columnData) {
-      final String elementString = new SimpleToStringFunction(true).apply(element);
+      final String elementString = toStringFunction.apply(element);
       final TagBuilder tableCell = tableCell().withEscapedText(elementString);
       if (element == null) {
         tableCell.withStyleClass("data_null");
@@ -232,7 +241,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       row.addInnerTag(tableCell.make());
     }
 
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(dataRowTagOutputFormat));
   }
 
   /**
@@ -242,17 +251,13 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRowHeader(final String... columnNames) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
     final Tag row = tableRow().make();
     for (final String columnName : columnNames) {
       final Tag headerCell = tableHeaderCell().withText(columnName).make();
       row.addInnerTag(headerCell);
     }
 
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(dataRowTagOutputFormat));
   }
 
   @Override
@@ -260,6 +265,6 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
     final Tag row = tableRow().make();
     row.addInnerTag(
         tableCell().withEscapedText(definition).withStyleClass(style).withColumnSpan(3).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    out.println(row.render(tagOutputFormat));
   }
 }
@@ -67,6 +67,7 @@ public final class HtmlFormattingHelper extends BaseTextFormattingHelper {
   @Override
   public void writeDocumentEnd() {
     out.println(HTML_FOOTER);
+    out.flush();
   }
 
   /** {@inheritDoc} */
@@ -90,6 +91,7 @@ public final class HtmlFormattingHelper extends BaseTextFormattingHelper {
     out.append("</table>").println();
     out.println("<p>&#160;</p>");
     out.println();
+    out.flush();
   }
 
   /** {@inheritDoc} */
@@ -90,6 +90,7 @@ public class PlainTextFormattingHelper extends BaseTextFormattingHelper {
   @Override
   public void writeObjectEnd() {
     out.println();
+    out.flush();
   }
 
   /** {@inheritDoc} */
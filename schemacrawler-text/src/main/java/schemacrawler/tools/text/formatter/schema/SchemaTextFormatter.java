@@ -36,6 +36,8 @@ import static schemacrawler.utility.MetaDataUtility.getTypeName;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -86,7 +88,7 @@ import schemacrawler.tools.text.formatter.base.BaseTabularFormatter;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.DetailRowOptions;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.traversal.ModelHelper;
-import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.TableFragmentHandler;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.html.Alignment;
 import us.fatehi.utility.property.Property;
@@ -95,7 +97,7 @@ import us.fatehi.utility.string.StringFormat;
 
 /** Text formatting of schema. */
 public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
-    implements SchemaTraversalHandler {
+    implements TableFragmentHandler {
 
   private static final Logger LOGGER = Logger.getLogger(SchemaTextFormatter.class.getName());
 
@@ -109,7 +111,11 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     return textValue;
   }
 
+  /** Formatter for rendering tables on a worker thread, into a buffer. */
+  private record FragmentFormatter(SchemaTextFormatter formatter, StringWriter buffer) {}
+
   private final ModelHelper modelHelper;
+  private final ThreadLocal<FragmentFormatter> fragmentFormatters;
 
   /**
    * Text formatting of schema.
@@ -127,6 +133,18 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
       final ModelHelper modelHelper) {
     super(schemaTextDetailType, options, outputOptions, identifiers);
     this.modelHelper = requireNonNull(modelHelper, "No model helper provided");
+    fragmentFormatters = ThreadLocal.withInitial(this::newFragmentFormatter);
+  }
+
+  private SchemaTextFormatter(final SchemaTextFormatter formatter, final PrintWriter out) {
+    super(
+        formatter.schemaTextDetailType,
+        formatter.options,
+        formatter.outputOptions,
+        formatter.identifiers,
+        out);
+    modelHelper = formatter.modelHelper;
+    fragmentFormatters = ThreadLocal.withInitial(this::newFragmentFormatter);
   }
 
   /** {@inheritDoc} */
@@ -467,6 +485,26 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     formattingHelper.writeHeader(DocumentHeaderType.subTitle, "Tables");
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String renderFragment(final Table table) {
+    final FragmentFormatter fragmentFormatter = fragmentFormatters.get();
+    final StringWriter buffer = fragmentFormatter.buffer();
+    // Reuse the buffer for every table rendered on this thread
+    buffer.getBuffer().setLength(0);
+    fragmentFormatter.formatter().handle(table);
+    return buffer.toString();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeFragment(final String fragment) {
+    if (fragment == null || fragment.isEmpty()) {
+      return;
+    }
+    formattingHelper.append(fragment);
+  }
+
   private List<TableConstraint> filterPrintableConstraints(
       final Collection<TableConstraint> constraintsCollection) {
 
@@ -520,6 +558,13 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     return ruleString;
   }
 
+  private FragmentFormatter newFragmentFormatter() {
+    final StringWriter buffer = new StringWriter(4096);
+    // Print writers do not buffer, so the buffer is complete after each table
+    final SchemaTextFormatter formatter = new SchemaTextFormatter(this, new PrintWriter(buffer));
+    return new FragmentFormatter(formatter, buffer);
+  }
+
   private void printColumnDataType(final ColumnDataType columnDataType) {
 
     final boolean isUserDefined = columnDataType.getType() == user_defined;
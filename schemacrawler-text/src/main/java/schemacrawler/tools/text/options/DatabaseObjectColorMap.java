@@ -40,7 +40,8 @@ public class DatabaseObjectColorMap {
     colorMap = new RegularExpressionColorMap(properties);
   }
 
-  public Color getColor(final DatabaseObject dbObject) {
+  // Synchronized, since colors for new schemas are added to the map as they are generated
+  public synchronized Color getColor(final DatabaseObject dbObject) {
     requireNonNull(dbObject, "No database object provided");
 
     final String schemaName = dbObject.getSchema().getFullName();
@@ -0,0 +1,203 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.traversal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+
+/**
+ * Passes every traversal event on to several handlers, in order, so that a single traversal of the
+ * catalog can produce several outputs.
+ */
+public final class FanOutSchemaTraversalHandler implements SchemaTraversalHandler {
+
+  private final List<SchemaTraversalHandler> handlers;
+
+  public FanOutSchemaTraversalHandler(final List<SchemaTraversalHandler> handlers) {
+    requireNonNull(handlers, "No handlers provided");
+    this.handlers = List.copyOf(handlers);
+  }
+
+  @Override
+  public void begin() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.begin();
+    }
+  }
+
+  @Override
+  public void end() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.end();
+    }
+  }
+
+  @Override
+  public void handle(final ColumnDataType columnDataType) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handle(columnDataType);
+    }
+  }
+
+  @Override
+  public void handle(final Routine routine) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handle(routine);
+    }
+  }
+
+  @Override
+  public void handle(final Sequence sequence) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handle(sequence);
+    }
+  }
+
+  @Override
+  public void handle(final Synonym synonym) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handle(synonym);
+    }
+  }
+
+  @Override
+  public void handle(final Table table) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handle(table);
+    }
+  }
+
+  @Override
+  public void handleColumnDataTypesEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleColumnDataTypesEnd();
+    }
+  }
+
+  @Override
+  public void handleColumnDataTypesStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleColumnDataTypesStart();
+    }
+  }
+
+  @Override
+  public void handleHeader(final CrawlInfo crawlInfo) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleHeader(crawlInfo);
+    }
+  }
+
+  @Override
+  public void handleHeaderEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleHeaderEnd();
+    }
+  }
+
+  @Override
+  public void handleHeaderStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleHeaderStart();
+    }
+  }
+
+  @Override
+  public void handleInfo(final DatabaseInfo databaseInfo) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleInfo(databaseInfo);
+    }
+  }
+
+  @Override
+  public void handleInfo(final JdbcDriverInfo jdbcDriverInfo) {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleInfo(jdbcDriverInfo);
+    }
+  }
+
+  @Override
+  public void handleInfoEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleInfoEnd();
+    }
+  }
+
+  @Override
+  public void handleInfoStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleInfoStart();
+    }
+  }
+
+  @Override
+  public void handleRoutinesEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleRoutinesEnd();
+    }
+  }
+
+  @Override
+  public void handleRoutinesStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleRoutinesStart();
+    }
+  }
+
+  @Override
+  public void handleSequencesEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleSequencesEnd();
+    }
+  }
+
+  @Override
+  public void handleSequencesStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleSequencesStart();
+    }
+  }
+
+  @Override
+  public void handleSynonymsEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleSynonymsEnd();
+    }
+  }
+
+  @Override
+  public void handleSynonymsStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleSynonymsStart();
+    }
+  }
+
+  @Override
+  public void handleTablesEnd() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleTablesEnd();
+    }
+  }
+
+  @Override
+  public void handleTablesStart() {
+    for (final SchemaTraversalHandler handler : handlers) {
+      handler.handleTablesStart();
+    }
+  }
+}
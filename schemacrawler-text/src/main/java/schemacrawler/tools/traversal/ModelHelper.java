@@ -21,6 +21,10 @@ import schemacrawler.schema.Table;
 import schemacrawler.schema.TableReference;
 import schemacrawler.tools.state.ExecutionState;
 
+/**
+ * Looks up ER model information for tables. Lookups are safe to use from multiple threads, so
+ * that tables can be rendered in parallel.
+ */
 public final class ModelHelper {
 
   public static ModelHelper from(final ExecutionState state) {
@@ -41,9 +45,12 @@ public final class ModelHelper {
   }
 
   public Collection<? extends TableReference> getImplicitAssociations(final Table table) {
-    final Collection<? extends TableReference> implicitAssociations =
-        ERModelUtility.collectImplicitAssociations(table, erModel);
-    return List.copyOf(implicitAssociations);
+    // The ER model is not thread-safe, so serialize access to it
+    synchronized (erModel) {
+      final Collection<? extends TableReference> implicitAssociations =
+          ERModelUtility.collectImplicitAssociations(table, erModel);
+      return List.copyOf(implicitAssociations);
+    }
   }
 
   public RelationshipCardinality inferCardinality(final TableReference tableReference) {
@@ -51,7 +58,10 @@ public final class ModelHelper {
       return RelationshipCardinality.unknown;
     }
 
-    final Optional<Relationship> lookedupRelationship = erModel.lookupRelationship(tableReference);
+    final Optional<Relationship> lookedupRelationship;
+    synchronized (erModel) {
+      lookedupRelationship = erModel.lookupRelationship(tableReference);
+    }
     if (lookedupRelationship.isEmpty()) {
       // Relationship may belong to a many-to-many relationship, so compute the
       // cardinality
@@ -0,0 +1,36 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.traversal;
+
+/**
+ * Command that produces its output by driving a handler through a traversal of the catalog. The
+ * steps of the command are exposed separately, so that the handlers of several commands can be
+ * driven by a single traversal.
+ */
+public interface SchemaTraversalCommand {
+
+  /** Completes the command output, once the handler has been driven through a traversal. */
+  void afterTraversal();
+
+  /**
+   * Configures a traverser with the sort order and rendering settings of the command. The handler
+   * is not set.
+   *
+   * @param traverser Traverser to configure
+   */
+  void configureTraverser(SchemaTraverser traverser);
+
+  /**
+   * Prepares the command output, and creates the handler that renders it. Called once, before the
+   * traversal.
+   *
+   * @return Handler for the command output
+   */
+  SchemaTraversalHandler newSchemaTraversalHandler();
+}
@@ -10,10 +10,18 @@ package schemacrawler.tools.traversal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.NamedObject;
@@ -24,22 +32,36 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.state.AbstractExecutionState;
 import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.string.StringFormat;
 
 public class SchemaTraverser extends AbstractExecutionState {
 
+  private static final Logger LOGGER = Logger.getLogger(SchemaTraverser.class.getName());
+
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private int maxThreads;
+  private int renderWindow;
 
   public SchemaTraverser() {
     tablesComparator = NamedObjectSort.natural;
     routinesComparator = NamedObjectSort.natural;
+    maxThreads = 1;
   }
 
   public SchemaTraversalHandler getHandler() {
     return handler;
   }
 
+  public int getMaxThreads() {
+    return maxThreads;
+  }
+
+  public int getRenderWindow() {
+    return renderWindow;
+  }
+
   public Comparator<NamedObject> getRoutinesComparator() {
     return routinesComparator;
   }
@@ -52,6 +74,26 @@ public class SchemaTraverser extends AbstractExecutionState {
     this.handler = requireNonNull(handler, "No handler provided");
   }
 
+  /**
+   * Sets the number of threads used to render tables. Tables are rendered in parallel only if
+   * there is more than one thread, and the handler can render tables as independent fragments.
+   *
+   * @param maxThreads Number of rendering threads, with values less than one reset to one
+   */
+  public void setMaxThreads(final int maxThreads) {
+    this.maxThreads = Math.max(1, maxThreads);
+  }
+
+  /**
+   * Sets the maximum number of rendered tables that are held in memory, waiting to be written
+   * out in order.
+   *
+   * @param renderWindow Number of tables, or zero for twice the number of threads
+   */
+  public void setRenderWindow(final int renderWindow) {
+    this.renderWindow = Math.max(0, renderWindow);
+  }
+
   public void setRoutinesComparator(final Comparator<NamedObject> routinesComparator) {
     this.routinesComparator = requireNonNull(routinesComparator, "No routines comparator provided");
   }
@@ -86,8 +128,14 @@ public class SchemaTraverser extends AbstractExecutionState {
 
       final List<? extends Table> tablesList = new ArrayList<>(tables);
       tablesList.sort(tablesComparator);
-      for (final Table table : tablesList) {
-        handler.handle(table);
+      if (maxThreads > 1
+          && tablesList.size() > 1
+          && handler instanceof final TableFragmentHandler fragmentHandler) {
+        traverseTablesInParallel(tablesList, fragmentHandler);
+      } else {
+        for (final Table table : tablesList) {
+          handler.handle(table);
+        }
       }
 
       handler.handleTablesEnd();
@@ -136,4 +184,50 @@ public class SchemaTraverser extends AbstractExecutionState {
 
     handler.end();
   }
+
+  private String awaitFragment(final Future<String> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while rendering tables", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ExecutionRuntimeException("Could not render table", cause);
+    }
+  }
+
+  /**
+   * Renders tables on a pool of workers, and writes the rendered fragments in table order. Only a
+   * window of tables ahead of the table being written is rendered at any time, which limits the
+   * number of rendered fragments held in memory.
+   */
+  private void traverseTablesInParallel(
+      final List<? extends Table> tablesList, final TableFragmentHandler fragmentHandler) {
+    final int threads = Math.min(maxThreads, tablesList.size());
+    final int window = renderWindow > 0 ? renderWindow : threads * 2;
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Rendering %d tables on %d threads, with up to %d tables in flight",
+            tablesList.size(), threads, window));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final Deque<Future<String>> pending = new ArrayDeque<>();
+      int next = 0;
+      while (next < tablesList.size() || !pending.isEmpty()) {
+        while (next < tablesList.size() && pending.size() < window) {
+          final Table table = tablesList.get(next++);
+          pending.add(executor.submit(() -> fragmentHandler.renderFragment(table)));
+        }
+        fragmentHandler.writeFragment(awaitFragment(pending.removeFirst()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.tools.traversal;
+
+import schemacrawler.schema.Table;
+
+/**
+ * Schema traversal handler that can render tables independently of each other, so that tables can
+ * be rendered on worker threads, and written out in order.
+ */
+public interface TableFragmentHandler extends SchemaTraversalHandler {
+
+  /**
+   * Renders a table into a self-contained fragment of output. Needs to be safe to call from
+   * multiple threads at the same time, and must not write to the handler output.
+   *
+   * @param table Table metadata.
+   * @return Rendered output for the table
+   */
+  String renderFragment(final Table table);
+
+  /**
+   * Writes a rendered table fragment to the handler output. Called on the traversal thread, in
+   * table order.
+   *
+   * @param fragment Rendered output for a table
+   */
+  void writeFragment(final String fragment);
+}
@@ -0,0 +1,88 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schema.Identifiers;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.test.utility.crawl.LightDatabaseInfo;
+import schemacrawler.test.utility.crawl.LightTable;
+import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
+import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.state.AbstractExecutionState;
+import schemacrawler.tools.text.formatter.schema.SchemaTextFormatter;
+import schemacrawler.tools.traversal.FanOutSchemaTraversalHandler;
+import schemacrawler.tools.traversal.ModelHelper;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+
+public class FanOutSchemaTraversalHandlerTest {
+
+  private static void traverse(final SchemaTraversalHandler handler) {
+    final LightTable table = new LightTable(new SchemaReference(), "TEST_TABLE");
+    table.addGeneratedColumn("GENERATED_COLUMN");
+
+    handler.begin();
+    handler.handleTablesStart();
+    handler.handle(table);
+    handler.handleTablesEnd();
+    handler.handleInfoStart();
+    handler.handleInfo(new LightDatabaseInfo());
+    handler.handleInfoEnd();
+    handler.end();
+  }
+
+  @Test
+  public void fanOut() {
+    final StringWriter expected = new StringWriter();
+    traverse(newFormatter(expected));
+
+    final StringWriter first = new StringWriter();
+    final StringWriter second = new StringWriter();
+    traverse(new FanOutSchemaTraversalHandler(List.of(newFormatter(first), newFormatter(second))));
+
+    assertThat(expected.toString(), containsString("TEST_TABLE"));
+    assertThat(first.toString(), is(expected.toString()));
+    assertThat(second.toString(), is(expected.toString()));
+  }
+
+  @Test
+  public void fanOutNoHandlers() {
+    assertThrows(NullPointerException.class, () -> new FanOutSchemaTraversalHandler(null));
+    // Nothing to do, and no errors
+    traverse(new FanOutSchemaTraversalHandler(List.of()));
+  }
+
+  private SchemaTraversalHandler newFormatter(final StringWriter writer) {
+    final SchemaTextOptions textOptions =
+        SchemaTextOptionsBuilder.builder().showDatabaseInfo().toOptions();
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(TextOutputFormat.text.name())
+            .withOutputWriter(writer)
+            .toOptions();
+    final ModelHelper modelHelper = ModelHelper.from(new AbstractExecutionState() {});
+    return new SchemaTextFormatter(
+        SchemaTextDetailType.details,
+        textOptions,
+        outputOptions,
+        Identifiers.STANDARD,
+        modelHelper);
+  }
+}
@@ -51,6 +51,20 @@ public class TextCommandsOutputTest {
     textOutputTest(schemaTextDetailType.name(), connectionSource, ConfigUtility.newConfig());
   }
 
+  @ParameterizedTest
+  @EnumSource(SchemaTextDetailType.class)
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void schemaTextOutputParallel(
+      final SchemaTextDetailType schemaTextDetailType,
+      final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    // Rendering tables in parallel should give the same output
+    final Config config = ConfigUtility.newConfig();
+    config.put("schemacrawler.format.render_threads", 4);
+    config.put("schemacrawler.format.render_window", 3);
+    textOutputTest(schemaTextDetailType.name(), connectionSource, config);
+  }
+
   private void textOutputTest(
       final String command, final DatabaseConnectionSource connectionSource, final Config config)
       throws Exception {
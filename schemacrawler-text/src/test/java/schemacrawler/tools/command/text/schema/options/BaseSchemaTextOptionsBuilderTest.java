@@ -225,6 +225,36 @@ public class BaseSchemaTextOptionsBuilderTest {
     assertPortableBroad(options, false);
   }
 
+  @Test
+  public void renderThreads() {
+    final Config config =
+        SchemaTextOptionsBuilder.builder().renderThreads(4).renderWindow(10).toConfig();
+    final SchemaTextOptions options =
+        SchemaTextOptionsBuilder.builder().renderThreads(4).renderWindow(10).toOptions();
+
+    SchemaTextOptionsBuilder builder;
+
+    // Defaults, and reset of bad values
+    builder = SchemaTextOptionsBuilder.builder();
+    assertThat(builder.toOptions().getRenderThreads(), is(1));
+    assertThat(builder.toOptions().getRenderWindow(), is(0));
+    builder.renderThreads(-1).renderWindow(-1);
+    assertThat(builder.toOptions().getRenderThreads(), is(1));
+    assertThat(builder.toOptions().getRenderWindow(), is(0));
+
+    // From config
+    builder = SchemaTextOptionsBuilder.builder();
+    builder.fromConfig(config);
+    assertThat(builder.toOptions().getRenderThreads(), is(4));
+    assertThat(builder.toOptions().getRenderWindow(), is(10));
+
+    // From options
+    builder = SchemaTextOptionsBuilder.builder();
+    builder.fromOptions(options);
+    assertThat(builder.toOptions().getRenderThreads(), is(4));
+    assertThat(builder.toOptions().getRenderWindow(), is(10));
+  }
+
   @Test
   public void sorts() {
     final Config config =